@@ -0,0 +1,28 @@
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.6.8"
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(8))
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(rootProject)
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    // Report the allocation rate alongside ops/s, so changes to the dispatch path can be judged on both
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
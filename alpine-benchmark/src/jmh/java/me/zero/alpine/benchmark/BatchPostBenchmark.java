@@ -0,0 +1,74 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Listener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares posting a batch of events with {@link EventBus#postAll} against posting each event with
+ * {@link EventBus#post}, across every {@link ListenerListType}. Scores are batches per second.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchPostBenchmark {
+
+    @Param({"ARRAY_LIST", "COPY_ON_WRITE", "SYNCHRONIZED", "READ_WRITE_LOCK", "COMPILED", "BUCKETED"})
+    public ListenerListType listType;
+
+    @Param({"1", "8", "64"})
+    public int listeners;
+
+    @Param({"16", "256"})
+    public int batchSize;
+
+    private EventBus bus;
+    private Event[] events;
+    private List<Event> eventList;
+
+    @Setup
+    public void setup() {
+        this.bus = EventManager.builder()
+            .setName("benchmark")
+            .setListenerListFactory(this.listType)
+            .build();
+
+        for (int i = 0; i < this.listeners; i++) {
+            this.bus.subscribe(new Listener<>(Event.class, e -> e.count++, i));
+        }
+
+        this.events = new Event[this.batchSize];
+        for (int i = 0; i < this.batchSize; i++) {
+            this.events[i] = new Event();
+        }
+        this.eventList = Arrays.asList(this.events);
+    }
+
+    @Benchmark
+    public int postEach() {
+        for (Event event : this.events) {
+            this.bus.post(event);
+        }
+        return this.events[0].count;
+    }
+
+    @Benchmark
+    public int postAll() {
+        this.bus.postAll(this.events);
+        return this.events[0].count;
+    }
+
+    @Benchmark
+    public int postAllTyped() {
+        this.bus.postAll(Event.class, this.eventList);
+        return this.events[0].count;
+    }
+}
@@ -0,0 +1,75 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link ListenerList#post} scales with the number of threads posting to the same list at once, while
+ * its listeners aren't modified.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContendedPostBenchmark {
+
+    @Param({"SYNCHRONIZED", "READ_WRITE_LOCK", "STAMPED_LOCK", "COPY_ON_WRITE"})
+    public ListenerListType listType;
+
+    @Param({"1", "8"})
+    public int listeners;
+
+    private ListenerList<Event> list;
+    private EventDispatcher dispatcher;
+
+    @Setup
+    public void setup() {
+        this.list = this.listType.create(Event.class);
+        for (int i = 0; i < this.listeners; i++) {
+            this.list.add(new Listener<>(Event.class, e -> e.count++, i));
+        }
+        this.dispatcher = EventDispatcher.fastEventDispatcher();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Event post1(ThreadState state) {
+        return this.post(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Event post4(ThreadState state) {
+        return this.post(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Event post16(ThreadState state) {
+        return this.post(state);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Event post64(ThreadState state) {
+        return this.post(state);
+    }
+
+    private Event post(ThreadState state) {
+        this.list.post(state.event, this.dispatcher);
+        return state.event;
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        // Each thread posts its own event, so that only contention on the list itself is measured
+        public final Event event = new Event();
+    }
+}
@@ -0,0 +1,53 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ListenerList#add} and {@link ListenerList#remove} churn from several threads modifying the same
+ * list at once, comparing the lock-free list with the synchronized copy-on-write list. Each thread also attempts a
+ * duplicate add and a missing remove, which shouldn't need to write to the list.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class ContendedSubscribeBenchmark {
+
+    @Param({"COPY_ON_WRITE", "LOCK_FREE"})
+    public ListenerListType listType;
+
+    @Param({"0", "64", "1024"})
+    public int existingListeners;
+
+    private ListenerList<Event> list;
+
+    @Setup
+    public void setup() {
+        this.list = this.listType.create(Event.class);
+        for (int i = 0; i < this.existingListeners; i++) {
+            this.list.add(new Listener<>(Event.class, e -> {}, i));
+        }
+    }
+
+    @Benchmark
+    public boolean addRemove(ThreadState state) {
+        final boolean added = this.list.add(state.listener);
+        final boolean duplicate = this.list.add(state.listener);
+        final boolean removed = this.list.remove(state.listener);
+        final boolean missing = this.list.remove(state.listener);
+        return added & !duplicate & removed & !missing;
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        public final Listener<Event> listener = new Listener<>(Event.class, e -> e.count++);
+    }
+}
@@ -0,0 +1,34 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.bus.EventBusBuilder;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+
+/**
+ * The built-in {@link EventDispatcher} implementations, selectable by name from a JMH {@code @Param}.
+ *
+ * @author Brady
+ */
+public enum DispatcherType {
+    /**
+     * {@link EventDispatcher#fastEventDispatcher()}
+     */
+    FAST {
+        @Override
+        public <T extends EventBusBuilder<?>> T apply(T builder) {
+            builder.noExceptionHandler();
+            return builder;
+        }
+    },
+    /**
+     * {@link EventDispatcher#withExceptionHandler}
+     */
+    EXCEPTION_HANDLING {
+        @Override
+        public <T extends EventBusBuilder<?>> T apply(T builder) {
+            // The default exception handler is already set by the builder
+            return builder;
+        }
+    };
+
+    public abstract <T extends EventBusBuilder<?>> T apply(T builder);
+}
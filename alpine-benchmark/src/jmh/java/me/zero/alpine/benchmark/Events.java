@@ -0,0 +1,24 @@
+package me.zero.alpine.benchmark;
+
+/**
+ * Event types shared by the benchmarks. {@link Event} inherits from both a superclass and an interface, so that
+ * super-listener dispatch has more than one supertype group to merge.
+ *
+ * @author Brady
+ */
+public final class Events {
+
+    private Events() {}
+
+    public interface EventInterface {}
+
+    public static class BaseEvent {
+
+        /**
+         * Incremented by every listener, and returned by the benchmark methods to prevent dead-code elimination.
+         */
+        public int count;
+    }
+
+    public static class Event extends BaseEvent implements EventInterface {}
+}
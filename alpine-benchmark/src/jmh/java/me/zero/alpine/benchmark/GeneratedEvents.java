@@ -0,0 +1,55 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Creates distinct event classes at runtime, by defining the bytes of {@link GeneratedEvent} in a new
+ * {@link ClassLoader} for every type, each of which results in a new subclass of {@link Event}.
+ *
+ * @author Brady
+ */
+final class GeneratedEvents {
+
+    private GeneratedEvents() {}
+
+    @SuppressWarnings("unchecked")
+    static Class<? extends Event>[] define(int count) throws IOException {
+        final byte[] bytes = readClass(GeneratedEvent.class);
+        final Class<? extends Event>[] types = new Class[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = new GeneratedEventLoader().define(bytes);
+        }
+        return types;
+    }
+
+    private static byte[] readClass(Class<?> cls) throws IOException {
+        final String resource = cls.getName().substring(cls.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = cls.getResourceAsStream(resource)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public static class GeneratedEvent extends Event {}
+
+    private static final class GeneratedEventLoader extends ClassLoader {
+
+        GeneratedEventLoader() {
+            super(GeneratedEvents.class.getClassLoader());
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<? extends Event> define(byte[] bytes) {
+            return (Class<? extends Event>) this.defineClass(GeneratedEvent.class.getName(), bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.BaseEvent;
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.benchmark.Events.EventInterface;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Listener;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures linking new event types into a super listener bus which already has many registered event types. Every
+ * iteration subscribes a listener to each of {@link #NEW_TYPES} types that the bus hasn't seen before, each of which
+ * has to be linked to the groups of its supertypes.
+ * <p>
+ * Distinct event classes are created by {@link GeneratedEvents}.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class HierarchyBenchmark {
+
+    private static final int NEW_TYPES = 1000;
+
+    @Param({"0", "1000", "10000"})
+    public int registeredTypes;
+
+    private EventBus bus;
+    private Class<? extends Event>[] newTypes;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        this.bus = EventManager.builder()
+            .setName("benchmark")
+            .setSuperListeners()
+            .build();
+
+        // Supertypes that every generated type is linked to
+        this.bus.subscribe(new Listener<>(Event.class, e -> {}));
+        this.bus.subscribe(new Listener<>(BaseEvent.class, e -> {}));
+        this.bus.subscribe(new Listener<>(EventInterface.class, e -> {}));
+
+        for (Class<? extends Event> type : GeneratedEvents.define(this.registeredTypes)) {
+            subscribe(this.bus, type);
+        }
+        this.newTypes = GeneratedEvents.define(NEW_TYPES);
+    }
+
+    @Benchmark
+    public EventBus linkNewTypes() {
+        for (Class<? extends Event> type : this.newTypes) {
+            subscribe(this.bus, type);
+        }
+        return this.bus;
+    }
+
+    private static <T> void subscribe(EventBus bus, Class<T> type) {
+        bus.subscribe(new Listener<>(type, e -> {}));
+    }
+}
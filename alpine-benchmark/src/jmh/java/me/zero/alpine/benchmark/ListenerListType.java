@@ -0,0 +1,66 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.listener.ListenerArrayList;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import me.zero.alpine.listener.concurrent.BucketedListenerList;
+import me.zero.alpine.listener.concurrent.CompiledListenerList;
+import me.zero.alpine.listener.concurrent.CopyOnWriteListenerList;
+import me.zero.alpine.listener.concurrent.LockFreeListenerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The built-in {@link ListenerList} implementations, selectable by name from a JMH {@code @Param}.
+ *
+ * @author Brady
+ */
+public enum ListenerListType implements ListenerListFactory {
+    ARRAY_LIST {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return new ListenerArrayList<>();
+        }
+    },
+    COPY_ON_WRITE {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return new CopyOnWriteListenerList<>();
+        }
+    },
+    SYNCHRONIZED {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return ListenerList.synchronize(new ListenerArrayList<>());
+        }
+    },
+    READ_WRITE_LOCK {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return ListenerList.readWriteLock(new ListenerArrayList<>());
+        }
+    },
+    STAMPED_LOCK {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return ListenerList.stampedLock(new ListenerArrayList<>());
+        }
+    },
+    COMPILED {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return new CompiledListenerList<>();
+        }
+    },
+    BUCKETED {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return new BucketedListenerList<>();
+        }
+    },
+    LOCK_FREE {
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+            return new LockFreeListenerList<>();
+        }
+    }
+}
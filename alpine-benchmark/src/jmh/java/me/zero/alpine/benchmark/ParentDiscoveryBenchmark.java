@@ -0,0 +1,73 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscribe;
+import me.zero.alpine.listener.Subscriber;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations which flatten the class hierarchy of a type, from several threads at once. Each thread
+ * subscribes a subscriber with a parent class to its own new bus with parent discovery and super listeners enabled, so
+ * that the hierarchies of the subscriber and of its event types are flattened on every invocation, rather than being
+ * cached by the bus. {@link #hasListeners} checks the supertypes of an event type which has no listeners of its own.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ParentDiscoveryBenchmark {
+
+    private EventBus bus;
+
+    @Setup
+    public void setup() {
+        this.bus = EventManager.builder()
+            .setName("benchmark")
+            .setSuperListeners()
+            .build();
+        this.bus.subscribe(new Listener<>(Events.BaseEvent.class, e -> {}));
+    }
+
+    @Benchmark
+    public EventBus subscribeToNewBus(ThreadState state) {
+        final EventBus bus = EventManager.builder()
+            .setName("benchmark")
+            .setParentDiscovery()
+            .setSuperListeners()
+            .build();
+        bus.subscribe(state.subscriber);
+        return bus;
+    }
+
+    @Benchmark
+    public boolean hasListeners() {
+        return this.bus.hasListeners(Event.class);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        public final ChildSubscriber subscriber = new ChildSubscriber();
+    }
+
+    public static class ParentSubscriber implements Subscriber {
+
+        @Subscribe
+        public void onEvent(Event event) {
+            event.count++;
+        }
+    }
+
+    public static class ChildSubscriber extends ParentSubscriber {
+
+        @Subscribe
+        public void onString(String event) {}
+    }
+}
@@ -0,0 +1,82 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.BaseEvent;
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.benchmark.Events.EventInterface;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventBusBuilder;
+import me.zero.alpine.bus.EventChannel;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Listener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EventBus#post} and {@link EventChannel#post} across every combination of {@link ListenerListType}, listener count, super
+ * listener setting and {@link DispatcherType}.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostBenchmark {
+
+    @Param({"ARRAY_LIST", "COPY_ON_WRITE", "SYNCHRONIZED", "READ_WRITE_LOCK", "STAMPED_LOCK", "COMPILED", "BUCKETED", "LOCK_FREE"})
+    public ListenerListType listType;
+
+    @Param({"0", "1", "8", "64", "1024"})
+    public int listeners;
+
+    @Param({"false", "true"})
+    public boolean superListeners;
+
+    @Param({"FAST", "EXCEPTION_HANDLING"})
+    public DispatcherType dispatcher;
+
+    private EventBus bus;
+    private EventChannel<Event> channel;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        final EventBusBuilder<EventBus> builder = EventManager.builder()
+            .setName("benchmark")
+            .setListenerListFactory(this.listType);
+        if (this.superListeners) {
+            builder.setSuperListeners();
+        }
+        this.bus = this.dispatcher.apply(builder).build();
+
+        for (int i = 0; i < this.listeners; i++) {
+            // When super listeners are enabled, spread the listeners across the event's type hierarchy
+            switch (this.superListeners ? i % 3 : 0) {
+                case 0:
+                    this.bus.subscribe(new Listener<>(Event.class, e -> e.count++, i));
+                    break;
+                case 1:
+                    this.bus.subscribe(new Listener<>(BaseEvent.class, e -> e.count++, i));
+                    break;
+                case 2:
+                    this.bus.subscribe(new Listener<>(EventInterface.class, e -> ((BaseEvent) e).count++, i));
+                    break;
+            }
+        }
+
+        this.channel = this.bus.channel(Event.class);
+        this.event = new Event();
+    }
+
+    @Benchmark
+    public int post() {
+        this.bus.post(this.event);
+        return this.event.count;
+    }
+
+    @Benchmark
+    public int postChannel() {
+        this.channel.post(this.event);
+        return this.event.count;
+    }
+}
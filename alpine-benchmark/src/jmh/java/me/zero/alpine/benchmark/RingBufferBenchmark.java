@@ -0,0 +1,78 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.bus.RingBufferEventBus;
+import me.zero.alpine.bus.RingBufferEventBus.WaitStrategy;
+import me.zero.alpine.listener.Listener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Compares the synchronous {@link EventManager} against a {@link RingBufferEventBus} for each {@link WaitStrategy}.
+ * Once the buffer has filled up, posting threads can only proceed as fast as the consumer thread frees slots, so the
+ * scores of the ring buffer benchmarks reflect the end-to-end delivery rate. Run with {@code -t} to measure multiple
+ * posting threads.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RingBufferBenchmark {
+
+    private static final BiConsumer<Event, Integer> TRANSLATOR = (event, count) -> event.count = count;
+
+    @Param({"BUSY_SPIN", "YIELD", "PARK"})
+    public WaitStrategy waitStrategy;
+
+    @Param({"1", "8"})
+    public int listeners;
+
+    @Param({"1024", "65536"})
+    public int bufferSize;
+
+    private EventBus syncBus;
+    private RingBufferEventBus<Event> ringBus;
+    private Event event;
+    private Integer value;
+
+    @Setup
+    public void setup() {
+        this.syncBus = EventManager.builder().setName("benchmark").build();
+        this.ringBus = new RingBufferEventBus<>(
+            EventManager.builder().setName("benchmark"), this.bufferSize, this.waitStrategy, Event::new
+        );
+        for (int i = 0; i < this.listeners; i++) {
+            this.syncBus.subscribe(new Listener<>(Event.class, e -> e.count++, i));
+            this.ringBus.subscribe(new Listener<>(Event.class, e -> e.count++, i));
+        }
+        this.event = new Event();
+        this.value = 0;
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        this.ringBus.shutdown();
+        this.ringBus.awaitQuiescence(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public int postSynchronous() {
+        this.syncBus.post(this.event);
+        return this.event.count;
+    }
+
+    @Benchmark
+    public void postRingBuffer() {
+        this.ringBus.post(this.event);
+    }
+
+    @Benchmark
+    public void publishRingBuffer() {
+        this.ringBus.publish(TRANSLATOR, this.value);
+    }
+}
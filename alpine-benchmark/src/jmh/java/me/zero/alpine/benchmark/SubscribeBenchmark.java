@@ -0,0 +1,79 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscribe;
+import me.zero.alpine.listener.Subscriber;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EventBus#subscribe(Subscriber)} and {@link EventBus#unsubscribe(Subscriber)} churn of a single
+ * subscriber instance, while other listeners of the same type remain subscribed.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SubscribeBenchmark {
+
+    @Param({"ARRAY_LIST", "COPY_ON_WRITE", "SYNCHRONIZED", "READ_WRITE_LOCK", "COMPILED", "BUCKETED", "LOCK_FREE"})
+    public ListenerListType listType;
+
+    @Param({"0", "64", "1024", "16384"})
+    public int existingListeners;
+
+    private EventBus bus;
+    private ChurnSubscriber subscriber;
+    private Event event;
+
+    @Setup
+    public void setup() {
+        this.bus = EventManager.builder()
+            .setName("benchmark")
+            .setListenerListFactory(this.listType)
+            .build();
+
+        for (int i = 0; i < this.existingListeners; i++) {
+            this.bus.subscribe(new Listener<>(Event.class, e -> {}, i));
+        }
+
+        this.event = new Event();
+        this.subscriber = new ChurnSubscriber();
+        // Populate the subscriber cache, so that only the add/remove path is measured
+        this.bus.subscribe(this.subscriber);
+        this.bus.unsubscribe(this.subscriber);
+    }
+
+    @Benchmark
+    public void subscribeUnsubscribe() {
+        this.bus.subscribe(this.subscriber);
+        this.bus.unsubscribe(this.subscriber);
+    }
+
+    /**
+     * Includes the first post after each modification, which lists that cache their dispatch array must rebuild.
+     */
+    @Benchmark
+    public Event subscribeUnsubscribePost() {
+        this.bus.subscribe(this.subscriber);
+        this.bus.unsubscribe(this.subscriber);
+        this.bus.post(this.event);
+        return this.event;
+    }
+
+    public static class ChurnSubscriber implements Subscriber {
+
+        @Subscribe
+        private final Listener<Event> eventListener = new Listener<>(e -> e.count++);
+
+        @Subscribe
+        private void onEvent(Event event) {
+            event.count++;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package me.zero.alpine.benchmark;
+
+import me.zero.alpine.benchmark.Events.Event;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Listener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the event type registry of {@link EventManager} on a bus which already has many registered event types.
+ * {@link #firstPost()} measures the latency of registering {@link #NEW_TYPES} types that the bus hasn't seen before,
+ * and posting the first event of each, while {@link #steadyPost()} measures the throughput of posting events of the
+ * registered types once they have all been registered.
+ * <p>
+ * Distinct event classes are created by {@link GeneratedEvents}.
+ *
+ * @author Brady
+ */
+@State(Scope.Benchmark)
+public class TypeRegistryBenchmark {
+
+    private static final int NEW_TYPES = 1000;
+
+    @Param({"1", "1000", "10000"})
+    public int registeredTypes;
+
+    private EventBus bus;
+    private Event[] registered;
+    private Event[] fresh;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        this.bus = EventManager.builder()
+            .setName("benchmark")
+            .build();
+
+        this.registered = subscribeAll(this.bus, GeneratedEvents.define(this.registeredTypes));
+        this.fresh = instantiate(GeneratedEvents.define(NEW_TYPES));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public EventBus firstPost() {
+        for (Event event : this.fresh) {
+            subscribe(this.bus, event.getClass());
+            this.bus.post(event);
+        }
+        return this.bus;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Event steadyPost() {
+        final Event event = this.registered[this.next];
+        this.next = this.next + 1 == this.registered.length ? 0 : this.next + 1;
+        this.bus.post(event);
+        return event;
+    }
+
+    private static Event[] subscribeAll(EventBus bus, Class<? extends Event>[] types) throws Exception {
+        for (Class<? extends Event> type : types) {
+            subscribe(bus, type);
+        }
+        return instantiate(types);
+    }
+
+    private static Event[] instantiate(Class<? extends Event>[] types) throws Exception {
+        final Event[] events = new Event[types.length];
+        for (int i = 0; i < types.length; i++) {
+            events[i] = types[i].newInstance();
+        }
+        return events;
+    }
+
+    private static <T> void subscribe(EventBus bus, Class<T> type) {
+        bus.subscribe(new Listener<>(type, e -> {}));
+    }
+}
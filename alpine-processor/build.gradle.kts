@@ -0,0 +1,41 @@
+plugins {
+    id("java-library")
+    id("maven-publish")
+}
+
+group = rootProject.group
+version = rootProject.version
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(8))
+    }
+    withSourcesJar()
+}
+
+repositories {
+    mavenCentral()
+}
+
+// The processor only refers to Alpine's types by name, so it doesn't depend on the library itself. The library is
+// only needed to compile the sources generated by the tests.
+val junitVersion: String by rootProject.extra
+
+dependencies {
+    testImplementation(rootProject)
+    testImplementation("org.junit.jupiter:junit-jupiter-api:$junitVersion")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$junitVersion")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("maven") {
+            artifactId = "alpine-processor"
+            from(components["java"])
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package me.zero.alpine.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code SubscriberIndex}, which allows an {@code EventBus} to find the Listeners of a subscriber without
+ * reflection. For each {@code Subscriber} class which declares {@code @Subscribe} members, a
+ * {@code ListenerDiscoveryStrategy} named {@code <Class>_AlpineListeners} is generated in the same package, which reads
+ * Listener fields directly and binds Listener methods with method references. The filters, priority and
+ * {@code receiveCancelled} values of each {@code @Subscribe} method are kept. The index, which maps each class to its
+ * generated strategy, is named by the {@code alpine.subscriberIndex} option:
+ * <pre>
+ * dependencies {
+ *     annotationProcessor("com.github.ZeroMemes:alpine-processor:3.1.1")
+ * }
+ *
+ * tasks.compileJava {
+ *     options.compilerArgs.add("-Aalpine.subscriberIndex=com.example.MySubscriberIndex")
+ * }
+ * </pre>
+ * Classes whose members can't be accessed from generated code in their package, such as private classes or classes
+ * with private {@code @Subscribe} members, aren't indexed, and a warning is reported for each of them. The Listeners of
+ * those classes are found by the reflective fallback strategies instead.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+@SupportedAnnotationTypes(SubscriberIndexProcessor.SUBSCRIBE)
+@SupportedOptions(SubscriberIndexProcessor.OPTION_INDEX)
+public final class SubscriberIndexProcessor extends AbstractProcessor {
+
+    static final String OPTION_INDEX = "alpine.subscriberIndex";
+
+    static final String SUBSCRIBE = "me.zero.alpine.listener.Subscribe";
+    private static final String SUBSCRIBER = "me.zero.alpine.listener.Subscriber";
+    private static final String LISTENER = "me.zero.alpine.listener.Listener";
+    private static final String STRATEGY = "me.zero.alpine.listener.discovery.ListenerDiscoveryStrategy";
+    private static final String CANDIDATE = "me.zero.alpine.listener.discovery.ListenerCandidate";
+    private static final String SUBSCRIBER_INDEX = "me.zero.alpine.listener.discovery.SubscriberIndex";
+    private static final String BIND_EXCEPTION = "me.zero.alpine.exception.ListenerBindException";
+
+    private static final String STRATEGY_SUFFIX = "_AlpineListeners";
+
+    /**
+     * The generated strategies, keyed by the qualified name of the strategy, with the subscriber class as the value.
+     */
+    private final Map<String, TypeElement> strategies = new LinkedHashMap<>();
+    private boolean indexWritten;
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final String index = this.processingEnv.getOptions().get(OPTION_INDEX);
+        final TypeElement subscribe = this.elements.getTypeElement(SUBSCRIBE);
+        final TypeElement subscriber = this.elements.getTypeElement(SUBSCRIBER);
+        if (subscribe == null || subscriber == null) {
+            // Alpine isn't on the compile classpath
+            return false;
+        }
+
+        if (roundEnv.processingOver()) {
+            return false;
+        }
+
+        // Collect the classes which declare @Subscribe members in this round
+        final Set<TypeElement> classes = new LinkedHashSet<>();
+        for (Element member : roundEnv.getElementsAnnotatedWith(subscribe)) {
+            final Element owner = member.getEnclosingElement();
+            if (owner instanceof TypeElement
+                && this.types.isAssignable(this.types.erasure(owner.asType()), subscriber.asType())) {
+                classes.add((TypeElement) owner);
+            }
+        }
+        if (classes.isEmpty()) {
+            // Write the index once a round doesn't find any new subscribers, rather than in the final round, so that
+            // the index is compiled like any other generated source
+            if (index != null && !this.indexWritten && !this.strategies.isEmpty()) {
+                this.writeIndex(index);
+                this.indexWritten = true;
+            }
+            return false;
+        }
+        if (index == null) {
+            this.messager.printMessage(Diagnostic.Kind.WARNING, "No subscriber index will be generated, "
+                + "specify its name with -A" + OPTION_INDEX + "=<qualified class name>");
+            return false;
+        }
+        if (this.indexWritten) {
+            for (TypeElement cls : classes) {
+                this.warn(cls, cls + " was generated after the subscriber index");
+            }
+            return false;
+        }
+
+        for (TypeElement cls : classes) {
+            final List<String> candidates = this.getCandidates(cls);
+            if (candidates != null) {
+                this.writeStrategy(cls, candidates);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the source of a candidate factory method for each Listener of the specified class, or {@code null} if
+     * the class can't be indexed. Fields come before methods, matching the order of the default discovery strategies.
+     */
+    private List<String> getCandidates(TypeElement cls) {
+        final String unindexable = this.checkAccessible(cls, this.getPackage(cls));
+        if (unindexable != null) {
+            this.warn(cls, cls + " " + unindexable);
+            return null;
+        }
+
+        final List<String> candidates = new ArrayList<>();
+        final TypeElement listener = this.elements.getTypeElement(LISTENER);
+        for (VariableElement field : ElementFilter.fieldsIn(cls.getEnclosedElements())) {
+            if (this.getSubscribe(field) == null
+                || !this.types.isSameType(this.types.erasure(field.asType()), this.types.erasure(listener.asType()))
+                || field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String candidate = this.getFieldCandidate(cls, field, candidates.size());
+            if (candidate == null) {
+                return null;
+            }
+            candidates.add(candidate);
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(cls.getEnclosedElements())) {
+            if (this.getSubscribe(method) == null || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String candidate = this.getMethodCandidate(cls, method, candidates.size());
+            if (candidate == null) {
+                return null;
+            }
+            candidates.add(candidate);
+        }
+        return candidates;
+    }
+
+    private String getFieldCandidate(TypeElement cls, VariableElement field, int id) {
+        if (field.getModifiers().contains(Modifier.PRIVATE)) {
+            this.warn(field, "Listener field is private");
+            return null;
+        }
+        final List<? extends TypeMirror> args = ((DeclaredType) field.asType()).getTypeArguments();
+        if (args.isEmpty()) {
+            this.warn(field, "Listener field doesn't have a type parameter");
+            return null;
+        }
+        final String target = this.getEventType(field, args.get(0));
+        if (target == null) {
+            return null;
+        }
+
+        // Weakly bound Listeners only hold the callback of the field weakly, so that they don't keep the subscriber reachable
+        final String owner = this.getName(cls);
+        final String name = field.getSimpleName().toString();
+        return "    private static " + CANDIDATE + "<?> candidate" + id + "() {\n"
+            + "        return new " + CANDIDATE + "<" + target + ">() {\n\n"
+            + "            @Override\n"
+            + "            public java.util.stream.Stream<" + LISTENER + "<" + target + ">> bind(" + SUBSCRIBER + " instance) {\n"
+            + "                return java.util.stream.Stream.of(this.read((" + owner + ") instance));\n"
+            + "            }\n\n"
+            + "            @Override\n"
+            + "            public java.util.stream.Stream<" + LISTENER + "<" + target + ">> bindWeak(java.lang.ref.WeakReference<? extends " + SUBSCRIBER + "> reference) {\n"
+            + "                final " + owner + " instance = (" + owner + ") reference.get();\n"
+            + "                if (instance == null) {\n"
+            + "                    return java.util.stream.Stream.empty();\n"
+            + "                }\n"
+            + "                final " + LISTENER + "<" + target + "> listener = this.read(instance);\n"
+            + "                final java.lang.ref.WeakReference<java.util.function.Consumer<" + target + ">> callback = new java.lang.ref.WeakReference<>(listener.getCallback());\n"
+            + "                return java.util.stream.Stream.of(listener.withCallback(event -> {\n"
+            + "                    final java.util.function.Consumer<" + target + "> current = callback.get();\n"
+            + "                    if (current != null) {\n"
+            + "                        current.accept(event);\n"
+            + "                    }\n"
+            + "                }));\n"
+            + "            }\n\n"
+            + "            private " + LISTENER + "<" + target + "> read(" + owner + " instance) {\n"
+            + "                final " + LISTENER + " listener = instance." + name + ";\n"
+            + "                if (listener == null) {\n"
+            + "                    throw new " + BIND_EXCEPTION + "(\"Unable to bind Listener field\", new NullPointerException());\n"
+            + "                }\n"
+            + "                listener.setTarget(" + target + ".class);\n"
+            + "                return listener;\n"
+            + "            }\n"
+            + "        };\n"
+            + "    }\n";
+    }
+
+    private String getMethodCandidate(TypeElement cls, ExecutableElement method, int id) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            this.warn(method, "Listener method is private");
+            return null;
+        }
+        if (method.getParameters().size() != 1) {
+            this.warn(method, "Listener method doesn't have exactly 1 parameter");
+            return null;
+        }
+        final TypeMirror runtimeException = this.elements.getTypeElement("java.lang.RuntimeException").asType();
+        final TypeMirror error = this.elements.getTypeElement("java.lang.Error").asType();
+        for (TypeMirror thrown : method.getThrownTypes()) {
+            if (!this.types.isSubtype(thrown, runtimeException) && !this.types.isSubtype(thrown, error)) {
+                this.warn(method, "Listener method throws a checked exception");
+                return null;
+            }
+        }
+        final String target = this.getEventType(method, method.getParameters().get(0).asType());
+        if (target == null) {
+            return null;
+        }
+
+        final AnnotationMirror subscribe = this.getSubscribe(method);
+        final List<String> filters = new ArrayList<>();
+        int priority = 0;
+        boolean receiveCancelled = false;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : this.elements.getElementValuesWithDefaults(subscribe).entrySet()) {
+            final Object value = entry.getValue().getValue();
+            switch (entry.getKey().getSimpleName().toString()) {
+                case "priority":
+                    priority = (Integer) value;
+                    break;
+                case "receiveCancelled":
+                    receiveCancelled = (Boolean) value;
+                    break;
+                case "filters":
+                    for (Object filter : (List<?>) value) {
+                        final TypeMirror type = (TypeMirror) ((AnnotationValue) filter).getValue();
+                        final String name = this.getFilter(method, type);
+                        if (name == null) {
+                            return null;
+                        }
+                        filters.add("new " + name + "()");
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        // Weakly bound Listeners call the method through the reference, so that they don't keep the subscriber reachable
+        final String owner = this.getName(cls);
+        final String name = method.getSimpleName().toString();
+        final String listener = "new " + LISTENER + "<>(" + target + ".class, callback, " + priority + ", "
+            + receiveCancelled + ", filters)";
+        return "    private static " + CANDIDATE + "<?> candidate" + id + "() {\n"
+            + "        final java.util.function.Predicate[] filters = {" + String.join(", ", filters) + "};\n"
+            + "        return new " + CANDIDATE + "<" + target + ">() {\n\n"
+            + "            @Override\n"
+            + "            public java.util.stream.Stream<" + LISTENER + "<" + target + ">> bind(" + SUBSCRIBER + " instance) {\n"
+            + "                final java.util.function.Consumer<" + target + "> callback = ((" + owner + ") instance)::" + name + ";\n"
+            + "                return java.util.stream.Stream.of(" + listener + ");\n"
+            + "            }\n\n"
+            + "            @Override\n"
+            + "            public java.util.stream.Stream<" + LISTENER + "<" + target + ">> bindWeak(java.lang.ref.WeakReference<? extends " + SUBSCRIBER + "> reference) {\n"
+            + "                final java.util.function.Consumer<" + target + "> callback = event -> {\n"
+            + "                    final " + owner + " instance = (" + owner + ") reference.get();\n"
+            + "                    if (instance != null) {\n"
+            + "                        instance." + name + "(event);\n"
+            + "                    }\n"
+            + "                };\n"
+            + "                return java.util.stream.Stream.of(" + listener + ");\n"
+            + "            }\n"
+            + "        };\n"
+            + "    }\n";
+    }
+
+    /**
+     * Returns the name of the event class targeted by a Listener, or {@code null} if it isn't a valid event type. Like
+     * {@code Events.validateEventType}, generic types are only accepted if all of their type arguments are wildcards.
+     */
+    private String getEventType(Element member, TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            this.warn(member, "Listener target " + type + " isn't a class");
+            return null;
+        }
+        for (TypeMirror arg : ((DeclaredType) type).getTypeArguments()) {
+            if (arg.getKind() != TypeKind.WILDCARD) {
+                this.warn(member, "Listener target " + type + " has type arguments which aren't wildcards");
+                return null;
+            }
+        }
+        final TypeElement element = (TypeElement) this.types.asElement(type);
+        final String unindexable = this.checkAccessible(element, this.getPackage(member));
+        if (unindexable != null) {
+            this.warn(member, "Listener target " + element + " " + unindexable);
+            return null;
+        }
+        return this.getName(element);
+    }
+
+    /**
+     * Returns the name of a filter class, or {@code null} if it can't be constructed by the generated strategy.
+     */
+    private String getFilter(ExecutableElement method, TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            this.warn(method, "Filter " + type + " isn't a class");
+            return null;
+        }
+        final TypeElement filter = (TypeElement) this.types.asElement(type);
+        final PackageElement pkg = this.getPackage(method);
+        final String unindexable = this.checkAccessible(filter, pkg);
+        if (unindexable != null) {
+            this.warn(method, "Filter " + filter + " " + unindexable);
+            return null;
+        }
+        if (filter.getKind() != ElementKind.CLASS || filter.getModifiers().contains(Modifier.ABSTRACT)
+            || filter.getNestingKind() == NestingKind.MEMBER && !filter.getModifiers().contains(Modifier.STATIC)) {
+            this.warn(method, "Filter " + filter + " can't be instantiated");
+            return null;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(filter.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getThrownTypes().isEmpty()
+                && this.isAccessible(constructor, pkg)) {
+                return this.getName(filter);
+            }
+        }
+        this.warn(method, "Filter " + filter + " doesn't have an accessible no-arg constructor");
+        return null;
+    }
+
+    /**
+     * Returns why the specified class can't be referred to from the specified package, or {@code null} if it can.
+     */
+    private String checkAccessible(TypeElement cls, PackageElement from) {
+        for (Element e = cls; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            final TypeElement type = (TypeElement) e;
+            if (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER) {
+                return "is a local or anonymous class";
+            }
+            if (!this.isAccessible(type, from)) {
+                return "isn't accessible from package " + from;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAccessible(Element element, PackageElement from) {
+        final Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || this.getPackage(element).equals(from);
+    }
+
+    private AnnotationMirror getSubscribe(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(SUBSCRIBE)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private void writeStrategy(TypeElement cls, List<String> candidates) {
+        final PackageElement pkg = this.getPackage(cls);
+        final String simpleName = this.elements.getBinaryName(cls).toString()
+            .substring(pkg.isUnnamed() ? 0 : pkg.getQualifiedName().length() + 1) + STRATEGY_SUFFIX;
+        final String name = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+
+        final StringBuilder invocations = new StringBuilder();
+        for (int i = 0; i < candidates.size(); i++) {
+            invocations.append(i == 0 ? "" : ", ").append("candidate").append(i).append("()");
+        }
+
+        final StringBuilder source = new StringBuilder();
+        source.append("// Generated by ").append(SubscriberIndexProcessor.class.getName()).append(", do not edit\n");
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+            .append("public final class ").append(simpleName).append(" implements ").append(STRATEGY).append(" {\n\n")
+            .append("    public static final Class<?> SUBSCRIBER = ").append(this.getName(cls)).append(".class;\n\n")
+            .append("    @Override\n")
+            .append("    public java.util.stream.Stream<").append(CANDIDATE).append("<?>> findAll(Class<? extends ")
+            .append(SUBSCRIBER).append("> cls) {\n")
+            .append("        return java.util.stream.Stream.of(").append(invocations).append(");\n")
+            .append("    }\n");
+        for (String candidate : candidates) {
+            source.append('\n').append(candidate);
+        }
+        source.append("}\n");
+
+        this.write(name, source, cls);
+        this.strategies.put(name, cls);
+    }
+
+    private void writeIndex(String name) {
+        final int dot = name.lastIndexOf('.');
+        final StringBuilder source = new StringBuilder();
+        source.append("// Generated by ").append(SubscriberIndexProcessor.class.getName()).append(", do not edit\n");
+        if (dot != -1) {
+            source.append("package ").append(name, 0, dot).append(";\n\n");
+        }
+        source.append("public final class ").append(name.substring(dot + 1)).append(" implements ")
+            .append(SUBSCRIBER_INDEX).append(" {\n\n")
+            .append("    private final java.util.Map<Class<?>, ").append(STRATEGY).append("> strategies;\n\n")
+            .append("    public ").append(name.substring(dot + 1)).append("() {\n")
+            .append("        this.strategies = new java.util.HashMap<>();\n");
+        for (String strategy : this.strategies.keySet()) {
+            source.append("        this.strategies.put(").append(strategy).append(".SUBSCRIBER, new ")
+                .append(strategy).append("());\n");
+        }
+        source.append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public ").append(STRATEGY).append(" getStrategy(Class<? extends ").append(SUBSCRIBER)
+            .append("> cls) {\n")
+            .append("        return this.strategies.get(cls);\n")
+            .append("    }\n")
+            .append("}\n");
+
+        this.write(name, source, this.strategies.values().toArray(new Element[0]));
+    }
+
+    private void write(String name, CharSequence source, Element... originatingElements) {
+        try (Writer writer = this.filer.createSourceFile(name, originatingElements).openWriter()) {
+            writer.append(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write " + name, e);
+        }
+    }
+
+    private void warn(Element element, String message) {
+        this.messager.printMessage(Diagnostic.Kind.WARNING,
+            message + ", falling back to reflective discovery for " + this.getOwner(element), element);
+    }
+
+    private TypeElement getOwner(Element element) {
+        Element e = element;
+        while (!(e instanceof TypeElement)) {
+            e = e.getEnclosingElement();
+        }
+        return (TypeElement) e;
+    }
+
+    private String getName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private PackageElement getPackage(Element element) {
+        return this.elements.getPackageOf(element);
+    }
+}
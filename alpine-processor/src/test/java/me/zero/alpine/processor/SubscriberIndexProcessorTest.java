@@ -0,0 +1,231 @@
+package me.zero.alpine.processor;
+
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Subscriber;
+import me.zero.alpine.listener.discovery.ListenerDiscoveryStrategy;
+import me.zero.alpine.listener.discovery.SubscriberIndex;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class SubscriberIndexProcessorTest {
+
+    private static final String EVENT = "package test;\n"
+        + "public final class TestEvent {\n"
+        + "    public final String value;\n"
+        + "    public TestEvent(String value) { this.value = value; }\n"
+        + "}\n";
+
+    private static final String FILTER = "package test;\n"
+        + "public final class NotEmpty implements java.util.function.Predicate<TestEvent> {\n"
+        + "    public boolean test(TestEvent e) { return !e.value.isEmpty(); }\n"
+        + "}\n";
+
+    private static final String INDEXED = "package test;\n"
+        + "import me.zero.alpine.listener.*;\n"
+        + "public class Indexed implements Subscriber {\n"
+        + "    public final java.util.List<String> received = new java.util.ArrayList<>();\n"
+        + "    @Subscribe\n"
+        + "    Listener<TestEvent> field = new Listener<>(e -> received.add(\"field \" + e.value));\n"
+        + "    @Subscribe(priority = 10)\n"
+        + "    void onHigh(TestEvent e) { received.add(\"high \" + e.value); }\n"
+        + "    @Subscribe(priority = -10, filters = NotEmpty.class)\n"
+        + "    protected void onFiltered(TestEvent e) { received.add(\"filtered \" + e.value); }\n"
+        + "    public static class Nested implements Subscriber {\n"
+        + "        @Subscribe\n"
+        + "        public void onEvent(TestEvent e) {}\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String PRIVATE = "package test;\n"
+        + "import me.zero.alpine.listener.*;\n"
+        + "public class Private implements Subscriber {\n"
+        + "    public final java.util.List<String> received = new java.util.ArrayList<>();\n"
+        + "    @Subscribe\n"
+        + "    private void onEvent(TestEvent e) { received.add(e.value); }\n"
+        + "}\n";
+
+    @Test
+    void indexedSubscriberIsBoundWithoutReflection() throws Exception {
+        final Compilation compilation = compile("test.Index", EVENT, FILTER, INDEXED);
+        assertTrue(compilation.warnings.isEmpty(), compilation.warnings.toString());
+
+        try (URLClassLoader loader = compilation.load()) {
+            final SubscriberIndex index = (SubscriberIndex) loader.loadClass("test.Index").newInstance();
+            final Class<? extends Subscriber> indexed = loader.loadClass("test.Indexed").asSubclass(Subscriber.class);
+            final Class<? extends Subscriber> nested = loader.loadClass("test.Indexed$Nested").asSubclass(Subscriber.class);
+            assertNotNull(index.getStrategy(indexed));
+            assertNotNull(index.getStrategy(nested));
+            assertEquals("test.Indexed$Nested_AlpineListeners", index.getStrategy(nested).getClass().getName());
+
+            // Only the index is used, so any reflective fallback would find nothing
+            final EventBus bus = EventManager.builder()
+                .setName("test")
+                .setDiscoveryStrategies(ListenerDiscoveryStrategy.indexed(index, new ListenerDiscoveryStrategy[0]))
+                .build();
+            final Subscriber subscriber = indexed.newInstance();
+            bus.subscribe(subscriber);
+            post(bus, loader, "a");
+            post(bus, loader, "");
+
+            assertEquals(
+                Arrays.asList("high a", "field a", "filtered a", "high ", "field "),
+                indexed.getField("received").get(subscriber)
+            );
+        }
+    }
+
+    @Test
+    void indexedMethodsBindWeakly() throws Exception {
+        assertPurged("test.Indexed$Nested", 1);
+    }
+
+    @Test
+    void indexedFieldsBindWeakly() throws Exception {
+        // The Listener field of Indexed captures the subscriber, so its two methods would otherwise be kept as well
+        assertPurged("test.Indexed", 3);
+    }
+
+    private static void assertPurged(String subscriber, int listeners) throws Exception {
+        final Compilation compilation = compile("test.Index", EVENT, FILTER, INDEXED);
+
+        try (URLClassLoader loader = compilation.load()) {
+            final SubscriberIndex index = (SubscriberIndex) loader.loadClass("test.Index").newInstance();
+            final EventManager bus = (EventManager) EventManager.builder()
+                .setName("test")
+                .setDiscoveryStrategies(ListenerDiscoveryStrategy.indexed(index, new ListenerDiscoveryStrategy[0]))
+                .build();
+            bus.subscribeWeak((Subscriber) loader.loadClass(subscriber).newInstance());
+            post(bus, loader, "a");
+
+            int purged = 0;
+            for (int i = 0; i < 100 && purged == 0; i++) {
+                System.gc();
+                Thread.sleep(10);
+                purged = bus.purgeCollectedSubscribers();
+            }
+            assertEquals(listeners, purged);
+        }
+    }
+
+    @Test
+    void inaccessibleSubscriberFallsBackToReflection() throws Exception {
+        final Compilation compilation = compile("test.Index", EVENT, FILTER, INDEXED, PRIVATE);
+        assertEquals(1, compilation.warnings.size(), compilation.warnings.toString());
+        assertTrue(compilation.warnings.get(0).contains("test.Private"), compilation.warnings.toString());
+
+        try (URLClassLoader loader = compilation.load()) {
+            final SubscriberIndex index = (SubscriberIndex) loader.loadClass("test.Index").newInstance();
+            final Class<? extends Subscriber> cls = loader.loadClass("test.Private").asSubclass(Subscriber.class);
+            assertNull(index.getStrategy(cls));
+
+            final EventBus bus = EventManager.builder()
+                .setName("test")
+                .setDiscoveryStrategies(ListenerDiscoveryStrategy.indexed(index))
+                .build();
+            final Subscriber subscriber = cls.newInstance();
+            bus.subscribe(subscriber);
+            post(bus, loader, "a");
+
+            assertEquals(Arrays.asList("a"), cls.getField("received").get(subscriber));
+        }
+    }
+
+    @Test
+    void missingIndexNameIsReported() throws Exception {
+        final Compilation compilation = compile(null, EVENT, FILTER, INDEXED);
+        assertEquals(1, compilation.warnings.size(), compilation.warnings.toString());
+
+        try (URLClassLoader loader = compilation.load()) {
+            assertThrows(ClassNotFoundException.class, () -> loader.loadClass("test.Indexed_AlpineListeners"));
+        }
+    }
+
+    private static void post(EventBus bus, ClassLoader loader, String value) throws Exception {
+        bus.post(loader.loadClass("test.TestEvent").getConstructor(String.class).newInstance(value));
+    }
+
+    private static Compilation compile(String index, String... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final Path output = Files.createTempDirectory("alpine-processor");
+
+        final List<String> options = new ArrayList<>(Arrays.asList(
+            "-classpath", System.getProperty("java.class.path"),
+            "-d", output.toString(),
+            "-s", output.toString()
+        ));
+        if (index != null) {
+            options.add("-A" + SubscriberIndexProcessor.OPTION_INDEX + "=" + index);
+        }
+
+        final List<JavaFileObject> units = Arrays.stream(sources).map(Source::new).collect(Collectors.toList());
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, units);
+        task.setProcessors(Arrays.asList(new SubscriberIndexProcessor()));
+        final boolean success = task.call();
+
+        final List<String> warnings = new ArrayList<>();
+        final Consumer<Diagnostic<?>> collector = d -> warnings.add(d.getMessage(null));
+        diagnostics.getDiagnostics().stream().filter(d -> d.getKind() == Diagnostic.Kind.WARNING).forEach(collector);
+        assertTrue(success, diagnostics.getDiagnostics().toString());
+        return new Compilation(output, warnings);
+    }
+
+    private static final class Compilation {
+
+        final Path output;
+        final List<String> warnings;
+
+        Compilation(Path output, List<String> warnings) {
+            this.output = output;
+            this.warnings = warnings;
+        }
+
+        URLClassLoader load() throws IOException {
+            return new URLClassLoader(new java.net.URL[] { this.output.toUri().toURL() },
+                SubscriberIndexProcessorTest.class.getClassLoader());
+        }
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String source;
+
+        Source(String source) {
+            super(URI.create("string:///" + getName(source).replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+
+        private static String getName(String source) {
+            final String pkg = source.substring("package ".length(), source.indexOf(';'));
+            final int start = source.indexOf("class ") + "class ".length();
+            return pkg + "." + source.substring(start, source.indexOf(' ', start));
+        }
+    }
+}
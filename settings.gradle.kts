@@ -1,2 +1,4 @@
 rootProject.name = "Alpine"
 include("alpine-example")
+include("alpine-benchmark")
+include("alpine-processor")
@@ -2,6 +2,7 @@ package me.zero.alpine.bus;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -33,6 +34,71 @@ public class AttachableEventManager extends EventManager implements AttachableEv
         }
     }
 
+    @Override
+    public <T> void postAll(@NotNull T[] events) {
+        super.postAll(events);
+        for (EventBus bus : this.attached) {
+            bus.postAll(events);
+        }
+    }
+
+    @Override
+    public <T> void postAll(@NotNull Collection<T> events) {
+        super.postAll(events);
+        for (EventBus bus : this.attached) {
+            bus.postAll(events);
+        }
+    }
+
+    @Override
+    public <T> void postAll(@NotNull Class<T> type, @NotNull Collection<? extends T> events) {
+        super.postAll(type, events);
+        for (EventBus bus : this.attached) {
+            bus.postAll(type, events);
+        }
+    }
+
+    @Override
+    public int drainCoalesced() {
+        int count = super.drainCoalesced();
+        for (EventBus bus : this.attached) {
+            count += bus.drainCoalesced();
+        }
+        return count;
+    }
+
+    @Override
+    public boolean hasListeners(@NotNull Class<?> type) {
+        if (super.hasListeners(type)) {
+            return true;
+        }
+        for (EventBus bus : this.attached) {
+            if (bus.hasListeners(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public <T> @NotNull EventChannel<T> channel(@NotNull Class<T> type) {
+        final EventChannel<T> channel = super.channel(type);
+        return new EventChannel<T>() {
+            @Override
+            public @NotNull Class<T> getType() {
+                return type;
+            }
+
+            @Override
+            public void post(@NotNull T event) {
+                channel.post(event);
+                for (EventBus bus : AttachableEventManager.this.attached) {
+                    bus.post(event);
+                }
+            }
+        };
+    }
+
     @Override
     public boolean attach(@NotNull EventBus bus) {
         return this.attached.addIfAbsent(bus);
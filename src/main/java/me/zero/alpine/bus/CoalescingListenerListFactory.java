@@ -0,0 +1,70 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import me.zero.alpine.listener.concurrent.CoalescingListenerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Wraps the {@link ListenerList} created by another factory in a {@link CoalescingListenerList} if its event type is
+ * coalesced, and keeps track of the wrapped lists so that they can be drained together. Used by {@link EventManager}
+ * when any event types are coalesced.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+final class CoalescingListenerListFactory implements ListenerListFactory {
+
+    private final ListenerListFactory factory;
+
+    /**
+     * The key extractor of each coalesced event type, or {@code null} if its events aren't keyed.
+     */
+    private final Map<Class<?>, Function<Object, ?>> keyExtractors;
+
+    /**
+     * The coalescing lists which have been created by this factory.
+     */
+    private final List<CoalescingListenerList<?>> lists;
+
+    CoalescingListenerListFactory(ListenerListFactory factory, EventBusBuilder<?> builder) {
+        this.factory = factory;
+        this.keyExtractors = new HashMap<>();
+        for (Class<?> type : builder.getCoalescedTypes()) {
+            this.keyExtractors.put(type, builder.getCoalescingKey(type).orElse(null));
+        }
+        this.lists = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public <T> @NotNull ListenerList<T> create(Class<T> cls) {
+        final ListenerList<T> list = this.factory.create(cls);
+        if (!this.keyExtractors.containsKey(cls)) {
+            return list;
+        }
+        final CoalescingListenerList<T> coalescing = new CoalescingListenerList<>(list, this.keyExtractors.get(cls));
+        this.lists.add(coalescing);
+        return coalescing;
+    }
+
+    /**
+     * Drains every coalescing list which has been created by this factory.
+     *
+     * @param dispatcher The event dispatcher
+     * @return The total number of events which were dispatched
+     */
+    int drain(EventDispatcher dispatcher) {
+        int count = 0;
+        for (CoalescingListenerList<?> list : this.lists) {
+            count += list.drain(dispatcher);
+        }
+        return count;
+    }
+}
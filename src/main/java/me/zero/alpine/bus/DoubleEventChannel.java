@@ -0,0 +1,49 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.DoubleListener;
+import me.zero.alpine.listener.ListenerExceptionHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A channel which posts {@code double} values to its {@link DoubleListener}s without boxing them. Primitive values
+ * aren't valid event types, so rather than sharing the Listeners of an {@link EventBus}, each channel holds its own.
+ * Channels are created by {@link EventBus#doubleChannel()}, and are typically stored in a constant alongside the bus:
+ * <pre>
+ * public static final DoubleEventChannel FRAME_RENDERED = EVENT_BUS.doubleChannel();
+ *
+ * FRAME_RENDERED.subscribe(new DoubleListener(millis -&gt; this.frameTimes.add(millis)));
+ * FRAME_RENDERED.post(frameTimeMillis);
+ * </pre>
+ * Listeners are called in order of their priority, and may be subscribed and unsubscribed while any number of threads
+ * are posting. Exceptions thrown by a Listener are handled by the {@link ListenerExceptionHandler} of the bus which
+ * created the channel, in the same way as for any other event, in which case the value is boxed and the Listener is
+ * reported by its {@link DoubleListener#asListener() boxed view}. The remaining Listeners aren't called.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class DoubleEventChannel extends PrimitiveEventChannel<DoubleListener> {
+
+    private static final DoubleListener[] EMPTY_LISTENERS = new DoubleListener[0];
+
+    DoubleEventChannel(@Nullable ListenerExceptionHandler exceptionHandler) {
+        super(EMPTY_LISTENERS, exceptionHandler);
+    }
+
+    /**
+     * Posts a value to all the {@link DoubleListener}s of this channel.
+     *
+     * @param value Value being posted
+     */
+    public void post(double value) {
+        final DoubleListener[] listeners = this.listeners();
+        int i = 0;
+        try {
+            for (; i < listeners.length; i++) {
+                listeners[i].accept(value);
+            }
+        } catch (Throwable cause) {
+            this.handleException(value, listeners[i].asListener(), cause);
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package me.zero.alpine.bus;
 
 import me.zero.alpine.event.Cancellable;
+import me.zero.alpine.event.EventPool;
+import me.zero.alpine.event.Events;
+import me.zero.alpine.event.PooledEvent;
 import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscribe;
 import me.zero.alpine.listener.Subscriber;
+import me.zero.alpine.listener.discovery.ListenerCandidate;
+import me.zero.alpine.util.Util;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * The core of an event-driven application.
  * <p>
@@ -39,6 +51,27 @@ public interface EventBus {
      */
     <T> void subscribe(@NotNull Listener<T> listener);
 
+    /**
+     * Discovers all the valid Listener instances defined by the specified {@link Subscriber} and adds them to the bus,
+     * without the bus keeping the subscriber reachable. Once the subscriber has been garbage collected, its Listeners
+     * have no effect, and are removed from the bus in a batch by a later subscribe or unsubscribe call. The subscriber
+     * may also be unsubscribed explicitly with {@link #unsubscribe(Subscriber)}. A subscriber should not be subscribed
+     * both weakly and with {@link #subscribe(Subscriber)}.
+     * <p>
+     * Only Listeners bound by {@link ListenerCandidate#bindWeak} avoid referencing their subscriber, which includes
+     * {@link Subscribe} methods and {@link Listener} fields. Rather than the Listener held by a field, a Listener with
+     * the same settings is subscribed, which only references the callback of the field's Listener weakly, so that a
+     * callback which references its subscriber doesn't keep it reachable. The field must not be reassigned while the
+     * subscriber is subscribed, since the callback may then be collected. The default implementation calls
+     * {@link #subscribe(Subscriber)}.
+     *
+     * @param subscriber The subscriber to be added
+     * @since 3.1.1
+     */
+    default void subscribeWeak(@NotNull Subscriber subscriber) {
+        this.subscribe(subscriber);
+    }
+
     /**
      * Calls {@link #subscribe(Subscriber)} on all the specified subscribers.
      *
@@ -134,6 +167,190 @@ public interface EventBus {
      */
     <T> void post(@NotNull T event);
 
+    /**
+     * Posts each of the specified events, in order. Each event is delivered to all of its Listeners before the next
+     * event is posted, and cancellation applies to each event individually. Implementations may look up Listeners,
+     * acquire locks and take a snapshot of the Listeners once for each run of consecutive events of the same type,
+     * so Listeners which are subscribed or unsubscribed by a Listener during the batch might not be reflected until
+     * the next post. The default implementation calls {@link #post(Object)} for each event.
+     *
+     * @param events The events, which must not be modified while being posted
+     * @param <T>    The event type
+     * @since 3.1.1
+     */
+    default <T> void postAll(@NotNull T[] events) {
+        for (T event : events) {
+            this.post(event);
+        }
+    }
+
+    /**
+     * Posts each of the specified events, in iteration order, in the same way as {@link #postAll(Object[])}.
+     *
+     * @param events The events
+     * @param <T>    The event type
+     * @since 3.1.1
+     */
+    default <T> void postAll(@NotNull Collection<T> events) {
+        for (T event : events) {
+            this.post(event);
+        }
+    }
+
+    /**
+     * Posts each of the specified events, in iteration order, in the same way as {@link #postAll(Object[])}. Events
+     * which are exactly of the specified type share a single lookup of their Listeners for the entire batch, while
+     * any other events are posted individually, without changing their order.
+     *
+     * @param type   The event type
+     * @param events The events
+     * @param <T>    The event type
+     * @since 3.1.1
+     */
+    default <T> void postAll(@NotNull Class<T> type, @NotNull Collection<? extends T> events) {
+        this.postAll(events);
+    }
+
+    /**
+     * Dispatches the latest pending event of each type, or of each key, which has been coalesced since the previous
+     * drain, as configured by {@link EventBusBuilder#setCoalesced}. Draining may be called once per frame or tick by
+     * the thread which owns the Listeners, or scheduled periodically on an executor, such as a
+     * {@link java.util.concurrent.ScheduledExecutorService}, to deliver coalesced events asynchronously. The default
+     * implementation doesn't coalesce events, and returns {@code 0}.
+     *
+     * @return The number of events which were dispatched
+     * @since 3.1.1
+     */
+    default int drainCoalesced() {
+        return 0;
+    }
+
+    /**
+     * Posts an event asynchronously, using the default executor of this bus. The default implementation uses
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param event Event being called
+     * @param <T>   The event type
+     * @return A future which is completed with the event once all Listeners have been called, or completed
+     * exceptionally if a Listener exception was propagated or the event couldn't be posted
+     * @see #postAsync(Object, Executor)
+     * @since 3.1.1
+     */
+    default <T> @NotNull CompletableFuture<T> postAsync(@NotNull T event) {
+        return this.postAsync(event, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Posts an event asynchronously, calling {@link #post(Object)} on the specified executor. Listener exceptions are
+     * handled in the same way as for synchronous posts, and any exception which is propagated completes the returned
+     * future exceptionally. No ordering is guaranteed between events posted asynchronously.
+     *
+     * @param event    Event being called
+     * @param executor The executor which calls the Listeners
+     * @param <T>      The event type
+     * @return A future which is completed with the event once all Listeners have been called, or completed
+     * exceptionally if a Listener exception was propagated or the event couldn't be posted
+     * @since 3.1.1
+     */
+    default <T> @NotNull CompletableFuture<T> postAsync(@NotNull T event, @NotNull Executor executor) {
+        Objects.requireNonNull(event);
+        return CompletableFuture.supplyAsync(() -> {
+            this.post(event);
+            return event;
+        }, executor);
+    }
+
+    /**
+     * Stops this bus from accepting any further asynchronous posts, which will instead return a future that has been
+     * completed exceptionally with a {@link RejectedExecutionException}. Events which were already posted will still
+     * be delivered, and may be waited for with {@link #awaitQuiescence}. Synchronous posting is unaffected. The
+     * default implementation has no effect.
+     *
+     * @since 3.1.1
+     */
+    default void shutdown() {}
+
+    /**
+     * Blocks until all events posted asynchronously have been delivered to their Listeners, or the timeout elapses. The
+     * default implementation doesn't track asynchronous posts, and returns {@code true} immediately.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit    The unit of the timeout
+     * @return {@code true} if no asynchronous posts are in progress, or {@code false} if the timeout elapsed
+     * @throws InterruptedException If the current thread was interrupted while waiting
+     * @since 3.1.1
+     */
+    default boolean awaitQuiescence(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return true;
+    }
+
+    /**
+     * Posts the event provided by the specified supplier, only if there are {@link Listener}s which may receive events
+     * of the specified type. This allows events that are expensive to construct to be skipped entirely when nothing is
+     * listening to them. The supplied event should be exactly of the specified type, otherwise its Listeners may not
+     * be taken into account.
+     *
+     * @param type     The event type
+     * @param supplier The supplier of the event, which is called at most once
+     * @param <T>      The event type
+     * @see #hasListeners(Class)
+     * @since 3.1.1
+     */
+    default <T> void post(@NotNull Class<T> type, @NotNull Supplier<? extends T> supplier) {
+        if (this.hasListeners(type)) {
+            this.post(supplier.get());
+        }
+    }
+
+    /**
+     * Borrows an event of the specified type from its {@link EventPool#of shared pool}, initializes it, posts it, and
+     * returns it to the pool once every {@link Listener} has been called. The event is only borrowed if there are
+     * Listeners which may receive events of the specified type, as with {@link #post(Class, Supplier)}.
+     *
+     * @param type        The event type, which must have a no-argument constructor
+     * @param initializer The initializer of the event
+     * @param <T>         The event type
+     * @throws IllegalArgumentException If the type has no no-argument constructor
+     * @since 3.1.1
+     */
+    default <T extends PooledEvent> void postPooled(@NotNull Class<T> type, @NotNull Consumer<? super T> initializer) {
+        if (this.hasListeners(type)) {
+            this.postPooled(EventPool.of(type), initializer);
+        }
+    }
+
+    /**
+     * Borrows an event from the specified pool, initializes it, posts it, and returns it to the pool once every
+     * {@link Listener} has been called, even if one of them threw an exception.
+     *
+     * @param pool        The pool of the event
+     * @param initializer The initializer of the event
+     * @param <T>         The event type
+     * @since 3.1.1
+     */
+    default <T extends PooledEvent> void postPooled(@NotNull EventPool<T> pool,
+                                                    @NotNull Consumer<? super T> initializer) {
+        final T event = pool.acquire();
+        try {
+            initializer.accept(event);
+            this.post(event);
+        } finally {
+            pool.release(event);
+        }
+    }
+
+    /**
+     * Returns {@code true} if posting an event of exactly the specified type may reach any {@link Listener}, including
+     * Listeners of its supertypes if they are enabled. The default implementation conservatively returns {@code true}.
+     *
+     * @param type The event type
+     * @return {@code true} if the event type has any Listeners
+     * @since 3.1.1
+     */
+    default boolean hasListeners(@NotNull Class<?> type) {
+        return true;
+    }
+
     /**
      * Posts a cancellable event and returns whether the event has been cancelled.
      *
@@ -145,4 +362,62 @@ public interface EventBus {
         this.post((Object) event);
         return event.isCancelled();
     }
+
+    /**
+     * Returns an {@link EventChannel} which posts events of the specified type to this bus. The default implementation
+     * returns a channel which simply calls {@link #post(Object)}.
+     *
+     * @param type The event type
+     * @param <T>  The event type
+     * @return The channel
+     * @throws IllegalArgumentException If the type isn't a valid event type
+     * @since 3.1.1
+     */
+    default <T> @NotNull EventChannel<T> channel(@NotNull Class<T> type) {
+        Util.catchAndRethrow(() -> Events.validateEventType(type), IllegalArgumentException::new);
+        return new EventChannel<T>() {
+            @Override
+            public @NotNull Class<T> getType() {
+                return type;
+            }
+
+            @Override
+            public void post(@NotNull T event) {
+                EventBus.this.post(event);
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@link IntEventChannel}, which posts {@code int} values to its own Listeners without boxing them.
+     * The default implementation returns a channel which propagates any exception thrown by a Listener.
+     *
+     * @return The channel
+     * @since 3.1.1
+     */
+    default @NotNull IntEventChannel intChannel() {
+        return new IntEventChannel(null);
+    }
+
+    /**
+     * Returns a new {@link LongEventChannel}, which posts {@code long} values to its own Listeners without boxing them.
+     * The default implementation returns a channel which propagates any exception thrown by a Listener.
+     *
+     * @return The channel
+     * @since 3.1.1
+     */
+    default @NotNull LongEventChannel longChannel() {
+        return new LongEventChannel(null);
+    }
+
+    /**
+     * Returns a new {@link DoubleEventChannel}, which posts {@code double} values to its own Listeners without boxing
+     * them. The default implementation returns a channel which propagates any exception thrown by a Listener.
+     *
+     * @return The channel
+     * @since 3.1.1
+     */
+    default @NotNull DoubleEventChannel doubleChannel() {
+        return new DoubleEventChannel(null);
+    }
 }
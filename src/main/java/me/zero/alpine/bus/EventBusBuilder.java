@@ -1,12 +1,17 @@
 package me.zero.alpine.bus;
 
+import me.zero.alpine.event.Cancellable;
 import me.zero.alpine.listener.*;
+import me.zero.alpine.listener.concurrent.CoalescingListenerList;
 import me.zero.alpine.listener.discovery.ListenerDiscoveryStrategy;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /**
  * A builder class for {@link EventManager} and {@link AttachableEventManager}. A new instance of this class is created
@@ -23,8 +28,13 @@ public final class EventBusBuilder<T extends EventBus> {
     private String name = null;
     private boolean parentDiscovery = false;
     private boolean superListeners = false;
+    private boolean skipCancelled = false;
     private ListenerExceptionHandler exceptionHandler = ListenerExceptionHandler.defaultHandler();
     private ListenerListFactory listenerListFactory = ListenerListFactory.defaultFactory();
+    private SubscriberCachePolicy subscriberCachePolicy = SubscriberCachePolicy.retain();
+    private Executor asyncExecutor = ForkJoinPool.commonPool();
+    private PartitionedExecutor partitionedExecutor = null;
+    private final Map<Class<?>, Function<Object, ?>> coalescedTypes = new HashMap<>();
     private final List<ListenerDiscoveryStrategy> discoveryStrategies = new ArrayList<>();
     private boolean attachable = false;
 
@@ -71,6 +81,21 @@ public final class EventBusBuilder<T extends EventBus> {
         return this;
     }
 
+    /**
+     * Stops passing {@link Cancellable} events to {@link Listener}s once they have been cancelled, including events
+     * which were cancelled before being posted. {@link Listener}s which
+     * {@link Listener#isReceiveCancelled() receive cancelled events} are still called. This applies regardless of
+     * whether the event was posted with {@link EventBus#post(Cancellable)} or {@link EventBus#post(Object)}.
+     *
+     * @return This builder
+     * @see Subscribe#receiveCancelled()
+     * @since 3.1.1
+     */
+    public @NotNull EventBusBuilder<T> setSkipCancelled() {
+        this.skipCancelled = true;
+        return this;
+    }
+
     /**
      * Sets the exception handler that will be invoked when an exception is thrown by a Listener. The specified
      * exception handler may be {@code null}, indicating that no explicit exception handling is to occur, and
@@ -110,6 +135,87 @@ public final class EventBusBuilder<T extends EventBus> {
         return this;
     }
 
+    /**
+     * Sets the policy which decides how long the Listeners bound to a {@link Subscriber} are kept after it has been
+     * unsubscribed. The default policy, {@link SubscriberCachePolicy#retain()}, keeps them for the lifetime of the bus,
+     * which retains every subscriber that has ever been subscribed.
+     *
+     * @param policy The policy
+     * @return This builder
+     * @since 3.1.1
+     */
+    public @NotNull EventBusBuilder<T> setSubscriberCachePolicy(@NotNull SubscriberCachePolicy policy) {
+        Objects.requireNonNull(policy);
+        this.subscriberCachePolicy = policy;
+        return this;
+    }
+
+    /**
+     * Sets the executor used by {@link EventBus#postAsync(Object)}. The default executor is
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param executor The executor
+     * @return This builder
+     * @since 3.1.1
+     */
+    public @NotNull EventBusBuilder<T> setAsyncExecutor(@NotNull Executor executor) {
+        Objects.requireNonNull(executor);
+        this.asyncExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the executor which partitions the events posted by {@link EventBus#postAsync(Object)} across its lanes,
+     * preserving the order of events with the same key. This takes precedence over {@link #setAsyncExecutor}. The
+     * executor is not shut down by the {@link EventBus}.
+     *
+     * @param executor The partitioned executor
+     * @return This builder
+     * @since 3.1.1
+     */
+    public @NotNull EventBusBuilder<T> setPartitionedExecutor(@NotNull PartitionedExecutor executor) {
+        Objects.requireNonNull(executor);
+        this.partitionedExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Enables coalescing for events of exactly the specified type. Instead of being dispatched immediately, each posted
+     * event replaces the previously posted event of the same type, and only the latest event is dispatched by
+     * {@link EventBus#drainCoalesced()}.
+     *
+     * @param type The event type
+     * @return This builder
+     * @see CoalescingListenerList
+     * @since 3.1.1
+     */
+    public @NotNull EventBusBuilder<T> setCoalesced(@NotNull Class<?> type) {
+        Objects.requireNonNull(type);
+        this.coalescedTypes.put(type, null);
+        return this;
+    }
+
+    /**
+     * Enables coalescing for events of exactly the specified type, keeping the latest event of each key. Instead of
+     * being dispatched immediately, each posted event replaces the previously posted event with the same key, and the
+     * latest event of each key is dispatched by {@link EventBus#drainCoalesced()}.
+     *
+     * @param type         The event type
+     * @param keyExtractor The function which returns the key of an event
+     * @param <E>          The event type
+     * @return This builder
+     * @see CoalescingListenerList
+     * @since 3.1.1
+     */
+    @SuppressWarnings("unchecked")
+    public <E> @NotNull EventBusBuilder<T> setCoalesced(@NotNull Class<E> type,
+                                                        @NotNull Function<? super E, ?> keyExtractor) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(keyExtractor);
+        this.coalescedTypes.put(type, (Function<Object, ?>) keyExtractor);
+        return this;
+    }
+
     /**
      * Replaces the current list of discovery strategies with the specified strategies.
      *
@@ -186,6 +292,14 @@ public final class EventBusBuilder<T extends EventBus> {
         return this.superListeners;
     }
 
+    /**
+     * Returns {@code true} if cancelled events are skipped
+     * @since 3.1.1
+     */
+    public boolean isSkipCancelled() {
+        return this.skipCancelled;
+    }
+
     /**
      * Returns an optional containing the exception handler, or {@link Optional#empty()} if none
      * @since 3.0.0
@@ -202,6 +316,47 @@ public final class EventBusBuilder<T extends EventBus> {
         return this.listenerListFactory;
     }
 
+    /**
+     * Returns the subscriber cache policy
+     * @since 3.1.1
+     */
+    public @NotNull SubscriberCachePolicy getSubscriberCachePolicy() {
+        return this.subscriberCachePolicy;
+    }
+
+    /**
+     * Returns the executor used for asynchronous posting
+     * @since 3.1.1
+     */
+    public @NotNull Executor getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Returns an optional containing the partitioned executor, or {@link Optional#empty()} if none
+     * @since 3.1.1
+     */
+    public Optional<PartitionedExecutor> getPartitionedExecutor() {
+        return Optional.ofNullable(this.partitionedExecutor);
+    }
+
+    /**
+     * Returns the event types which are coalesced
+     * @since 3.1.1
+     */
+    public @NotNull @UnmodifiableView Set<Class<?>> getCoalescedTypes() {
+        return Collections.unmodifiableSet(this.coalescedTypes.keySet());
+    }
+
+    /**
+     * Returns an optional containing the key extractor of the specified coalesced event type, or
+     * {@link Optional#empty()} if its events aren't keyed
+     * @since 3.1.1
+     */
+    public Optional<Function<Object, ?>> getCoalescingKey(@NotNull Class<?> type) {
+        return Optional.ofNullable(this.coalescedTypes.get(type));
+    }
+
     /**
      * Returns the discovery strategies
      * @since 3.0.0
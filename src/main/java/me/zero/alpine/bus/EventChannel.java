@@ -0,0 +1,46 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A handle for posting events of a single type to an {@link EventBus}, obtained with {@link EventBus#channel(Class)}.
+ * Posting through a channel is equivalent to calling {@link EventBus#post(Object)}, but implementations may resolve
+ * the {@link ListenerList} of the event type once, when the channel is created, instead of on every post.
+ * <p>
+ * A channel remains valid for the lifetime of its {@link EventBus}, and reflects any {@link Listener}s which are
+ * subscribed or unsubscribed after it was created. Channels are intended to be created once and stored, for event types
+ * which are posted frequently:
+ * <pre>
+ * public class MyApplication {
+ *   private final EventChannel&lt;TickEvent&gt; tickChannel = EVENT_BUS.channel(TickEvent.class);
+ *
+ *   public void tick() {
+ *     this.tickChannel.post(new TickEvent());
+ *   }
+ * }
+ * </pre>
+ *
+ * @param <T> The event type
+ * @author Brady
+ * @since 3.1.1
+ */
+public interface EventChannel<T> {
+
+    /**
+     * Returns the event type that this channel posts
+     *
+     * @since 3.1.1
+     */
+    @NotNull Class<T> getType();
+
+    /**
+     * Posts an event to all {@link Listener}s which would receive it from {@link EventBus#post(Object)}. Events whose
+     * class is a subclass of {@link #getType()} are still supported, but may not benefit from the pre-resolved lookup.
+     *
+     * @param event Event being called
+     * @since 3.1.1
+     */
+    void post(@NotNull T event);
+}
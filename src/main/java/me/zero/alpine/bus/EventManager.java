@@ -1,18 +1,24 @@
 package me.zero.alpine.bus;
 
-import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import me.zero.alpine.event.Events;
 import me.zero.alpine.event.dispatch.EventDispatcher;
 import me.zero.alpine.listener.*;
+import me.zero.alpine.listener.discovery.ListenerCandidate;
 import me.zero.alpine.listener.discovery.ListenerDiscoveryStrategy;
 import me.zero.alpine.util.Util;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -25,24 +31,48 @@ import java.util.stream.Stream;
 public class EventManager implements EventBus {
 
     /**
-     * Map containing all event subscriber instances have been previously subscribed and their associated Listener
-     * field instances. This reduces the amount of reflection calls that would otherwise be required when adding a
-     * subscriber to the event bus.
+     * Cache containing the Listeners bound to each subscribed instance, and to previously subscribed instances which
+     * are kept by the cache policy. This avoids binding the Listeners of a subscriber again when it is resubscribed.
      */
-    private final ConcurrentHashMap<Subscriber, List<Listener<?>>> subscriberListenerCache;
+    private final SubscriberCache subscriberListenerCache;
 
     /**
-     * Map containing all event classes and the currently subscribed listeners.
+     * The Listeners of weakly subscribed instances, which are removed in batches once their subscriber is collected.
      */
-    private volatile Event2ListenersMap activeListeners;
-    private final Object activeListenersWriteLock;
+    private final WeakSubscriptions weakSubscriptions;
+
+    /**
+     * The listener candidates of each subscriber class, found by applying every discovery strategy to the class, and to
+     * its superclasses if 'parentDiscovery' is enabled. This means that reflection is only used once per class, rather
+     * than once per subscriber instance. A {@link ClassValue} is used so that subscriber classes can still be unloaded.
+     */
+    private final ClassValue<List<ListenerCandidate<?>>> subscriberCandidateCache;
+
+    /**
+     * Map containing all event classes and the currently subscribed listeners. Inserting the list of a new type only
+     * locks a single bin, and the map is resized incrementally, so registering types is never serialized by a lock
+     * shared by all types, and never copies the whole map.
+     */
+    private final ConcurrentHashMap<Class<?>, ListenerList<?>> activeListeners;
+
+    /**
+     * The number of asynchronous posts which have been accepted, but whose Listeners haven't all been called yet.
+     */
+    private final AtomicInteger asyncInFlight;
+    private final Object asyncQuiescenceLock;
+    private volatile boolean shutdown;
 
     // Settings specified through EventBusBuilder
     protected final String name;
     protected final boolean parentDiscovery;
+    protected final boolean superListeners;
     protected final List<ListenerDiscoveryStrategy> discoveryStrategies;
     protected final EventDispatcher eventDispatcher;
+    private final ListenerExceptionHandler exceptionHandler;
     protected final ListenerListFactory listenerListFactory;
+    protected final Executor asyncExecutor;
+    protected final PartitionedExecutor partitionedExecutor;
+    private final CoalescingListenerListFactory coalescingFactory;
 
     public EventManager(@NotNull String name) {
         this(new EventBusBuilder<>().setName(name));
@@ -51,40 +81,45 @@ public class EventManager implements EventBus {
     public EventManager(@NotNull EventBusBuilder<?> builder) {
         Objects.requireNonNull(builder);
 
-        this.subscriberListenerCache = new ConcurrentHashMap<>();
-        this.activeListeners = new Event2ListenersMap();
-        this.activeListenersWriteLock = new Object();
+        this.subscriberListenerCache = new SubscriberCache(builder.getSubscriberCachePolicy());
+        this.weakSubscriptions = new WeakSubscriptions();
+        this.activeListeners = new ConcurrentHashMap<>();
+        this.asyncInFlight = new AtomicInteger();
+        this.asyncQuiescenceLock = new Object();
 
         // Copy settings from builder
         this.name = builder.getName();
         this.parentDiscovery = builder.isParentDiscovery();
+        this.superListeners = builder.isSuperListeners();
+        final boolean skipCancelled = builder.isSkipCancelled();
+        this.exceptionHandler = builder.getExceptionHandler().orElse(null);
         this.eventDispatcher = builder.getExceptionHandler()
-            .map(EventDispatcher::withExceptionHandler)
-            .orElseGet(EventDispatcher::fastEventDispatcher);
+            .map(handler -> EventDispatcher.withExceptionHandler(handler, skipCancelled))
+            .orElseGet(() -> EventDispatcher.fastEventDispatcher(skipCancelled));
         this.discoveryStrategies = new ArrayList<>(builder.getDiscoveryStrategies());
+        this.asyncExecutor = builder.getAsyncExecutor();
+        this.partitionedExecutor = builder.getPartitionedExecutor().orElse(null);
+        this.subscriberCandidateCache = new ClassValue<List<ListenerCandidate<?>>>() {
+
+            @SuppressWarnings("unchecked")
+            @Override
+            protected List<ListenerCandidate<?>> computeValue(Class<?> type) {
+                return EventManager.this.getCandidates((Class<? extends Subscriber>) type);
+            }
+        };
 
-        final ListenerListFactory factory = builder.getListenerListFactory();
+        ListenerListFactory factory = builder.getListenerListFactory();
+
+        // Wrap the lists of coalesced types before grouping, so that groups post to the coalescing list
+        if (!builder.getCoalescedTypes().isEmpty()) {
+            factory = this.coalescingFactory = new CoalescingListenerListFactory(factory, builder);
+        } else {
+            this.coalescingFactory = null;
+        }
 
         // Wrap the factory in ListenerGroup if superListeners is enabled
-        if (builder.isSuperListeners()) {
-            this.listenerListFactory = new ListenerListFactory() {
-                @SuppressWarnings("unchecked")
-                @Override
-                public <T> @NotNull ListenerList<T> create(Class<T> cls) {
-                    ListenerGroup<T> group = new ListenerGroup<>(factory.create(cls));
-                    EventManager.this.activeListeners.forEach((activeTarget, activeGroup) -> {
-                        // Link target to inherited types
-                        if (activeTarget.isAssignableFrom(cls)) {
-                            group.addChild((ListenerGroup<? super T>) activeGroup);
-                        }
-                        // Link inheriting types to target
-                        if (cls.isAssignableFrom(activeTarget)) {
-                            ((ListenerGroup<? extends T>) activeGroup).addChild(group);
-                        }
-                    });
-                    return group;
-                }
-            };
+        if (this.superListeners) {
+            this.listenerListFactory = new ListenerGroupFactory(factory);
         } else {
             this.listenerListFactory = factory;
         }
@@ -97,7 +132,14 @@ public class EventManager implements EventBus {
 
     @Override
     public void subscribe(@NotNull Subscriber subscriber) {
-        this.subscriberListenerCache.computeIfAbsent(subscriber, this::getListeners).forEach(this::subscribe);
+        this.purgeCollectedSubscribers();
+        this.subscriberListenerCache.subscribe(subscriber, this::getListeners, this::subscribe);
+    }
+
+    @Override
+    public void subscribeWeak(@NotNull Subscriber subscriber) {
+        this.purgeCollectedSubscribers();
+        this.weakSubscriptions.subscribe(subscriber, this::getWeakListeners, this::subscribe);
     }
 
     @Override
@@ -107,24 +149,320 @@ public class EventManager implements EventBus {
 
     @Override
     public void unsubscribe(@NotNull Subscriber subscriber) {
-        final List<Listener<?>> subscriberListeners = this.subscriberListenerCache.get(subscriber);
-        if (subscriberListeners != null) {
-            subscriberListeners.forEach(this::unsubscribe);
-        }
+        this.purgeCollectedSubscribers();
+        this.subscriberListenerCache.unsubscribe(subscriber, this::unsubscribe);
+        this.unsubscribeAll(this.weakSubscriptions.unsubscribe(subscriber));
     }
 
     @Override
     public <T> void unsubscribe(@NotNull Listener<T> listener) {
-        final ListenerList<T> list = this.activeListeners.get(listener.getTarget());
+        final ListenerList<T> list = this.getActiveList(listener.getTarget());
         if (list != null) {
             list.remove(listener);
         }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T> void post(@NotNull T event) {
-        this.getOrCreateListenerList((Class<T>) event.getClass()).post(event, this.eventDispatcher);
+        this.postLocal(event);
+    }
+
+    @Override
+    public <T> void postAll(@NotNull T[] events) {
+        this.postAllLocal(events);
+    }
+
+    @Override
+    public <T> void postAll(@NotNull Collection<T> events) {
+        this.postAllLocal(events.toArray());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void postAll(@NotNull Class<T> type, @NotNull Collection<? extends T> events) {
+        this.postAllLocal(type, events.toArray((T[]) Array.newInstance(type, events.size())));
+    }
+
+    @Override
+    public <T> @NotNull CompletableFuture<T> postAsync(@NotNull T event) {
+        final Executor executor = this.partitionedExecutor != null
+            ? this.partitionedExecutor.lane(event)
+            : this.asyncExecutor;
+        return this.postAsync(event, executor);
+    }
+
+    @Override
+    public <T> @NotNull CompletableFuture<T> postAsync(@NotNull T event, @NotNull Executor executor) {
+        Objects.requireNonNull(event);
+        Objects.requireNonNull(executor);
+
+        // Increment before checking the shutdown flag, so that awaitQuiescence can't miss an accepted post
+        this.asyncInFlight.incrementAndGet();
+        if (this.shutdown) {
+            this.asyncCompleted();
+            return failedFuture(new RejectedExecutionException("EventBus has been shut down"));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    this.post(event);
+                    return event;
+                } finally {
+                    this.asyncCompleted();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            this.asyncCompleted();
+            return failedFuture(e);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+    }
+
+    @Override
+    public int drainCoalesced() {
+        return this.coalescingFactory != null ? this.coalescingFactory.drain(this.eventDispatcher) : 0;
+    }
+
+    @Override
+    public boolean awaitQuiescence(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this.asyncQuiescenceLock) {
+            while (this.asyncInFlight.get() != 0) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this.asyncQuiescenceLock, remaining);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public boolean hasListeners(@NotNull Class<?> type) {
+        final ListenerList<?> list = this.activeListeners.get(type);
+        if (list != null) {
+            // When super listeners are enabled, this is a ListenerGroup which also checks the supertypes
+            return !list.isEmpty();
+        }
+        return this.hasSuperListeners(type);
+    }
+
+    /**
+     * Removes the Listeners of weakly subscribed instances which have been garbage collected since the last purge. The
+     * Listeners are removed in a batch, so that each affected {@link ListenerList} may replace its Listeners once. This
+     * is done automatically when subscribing or unsubscribing, and posting never checks whether a subscriber has been
+     * collected, so applications which rarely subscribe may call this periodically to release the Listeners sooner.
+     *
+     * @return The number of Listeners which were removed
+     * @see EventBus#subscribeWeak(Subscriber)
+     * @since 3.1.1
+     */
+    public int purgeCollectedSubscribers() {
+        final List<Listener<?>> collected = this.weakSubscriptions.expungeCollected();
+        this.unsubscribeAll(collected);
+        return collected.size();
+    }
+
+    /**
+     * Returns the number of times that a {@link Subscriber} was subscribed using Listeners which were already cached,
+     * either because it was already subscribed, or because its Listeners were kept by the cache policy after it was
+     * unsubscribed.
+     *
+     * @return The number of subscriber cache hits
+     * @see EventBusBuilder#setSubscriberCachePolicy(SubscriberCachePolicy)
+     * @since 3.1.1
+     */
+    public long getSubscriberCacheHits() {
+        return this.subscriberListenerCache.getHits();
+    }
+
+    /**
+     * Returns the number of times that the Listeners of a {@link Subscriber} had to be bound when it was subscribed.
+     *
+     * @return The number of subscriber cache misses
+     * @see EventBusBuilder#setSubscriberCachePolicy(SubscriberCachePolicy)
+     * @since 3.1.1
+     */
+    public long getSubscriberCacheMisses() {
+        return this.subscriberListenerCache.getMisses();
+    }
+
+    /**
+     * Returns an {@link EventChannel} which holds the {@link ListenerList} of the specified event type, posting events
+     * of exactly that type without looking up the list. The same {@link ListenerList} is used for the lifetime of this
+     * bus, so the channel stays valid as Listeners are subscribed and unsubscribed. Subclasses which override
+     * {@link #post(Object)} should also override this method if the overridden behavior must apply to channels.
+     *
+     * @param type The event type
+     * @param <T>  The event type
+     * @return The channel
+     * @throws IllegalArgumentException If the type isn't a valid event type
+     * @since 3.1.1
+     */
+    @Override
+    public <T> @NotNull EventChannel<T> channel(@NotNull Class<T> type) {
+        return new Channel<>(type, this.getOrCreateListenerList(type));
+    }
+
+    /**
+     * Returns a new {@link IntEventChannel}, which handles exceptions thrown by its Listeners with the exception
+     * handler of this bus.
+     *
+     * @return The channel
+     * @since 3.1.1
+     */
+    @Override
+    public @NotNull IntEventChannel intChannel() {
+        return new IntEventChannel(this.exceptionHandler);
+    }
+
+    /**
+     * Returns a new {@link LongEventChannel}, which handles exceptions thrown by its Listeners with the exception
+     * handler of this bus.
+     *
+     * @return The channel
+     * @since 3.1.1
+     */
+    @Override
+    public @NotNull LongEventChannel longChannel() {
+        return new LongEventChannel(this.exceptionHandler);
+    }
+
+    /**
+     * Returns a new {@link DoubleEventChannel}, which handles exceptions thrown by its Listeners with the exception
+     * handler of this bus.
+     *
+     * @return The channel
+     * @since 3.1.1
+     */
+    @Override
+    public @NotNull DoubleEventChannel doubleChannel() {
+        return new DoubleEventChannel(this.exceptionHandler);
+    }
+
+    private void asyncCompleted() {
+        if (this.asyncInFlight.decrementAndGet() == 0) {
+            synchronized (this.asyncQuiescenceLock) {
+                this.asyncQuiescenceLock.notifyAll();
+            }
+        }
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable cause) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
+    /**
+     * Posts an event to the Listeners of this bus, ignoring any behavior added by subclasses overriding
+     * {@link #post(Object)}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void postLocal(@NotNull T event) {
+        final ListenerList<T> list = this.getListenerList((Class<T>) event.getClass());
+        if (list != null) {
+            list.post(event, this.eventDispatcher);
+        }
+    }
+
+    /**
+     * Posts a batch of events to the Listeners of this bus, looking up the {@link ListenerList} once for each run of
+     * consecutive events of the same type.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void postAllLocal(@NotNull Object[] events) {
+        int from = 0;
+        while (from < events.length) {
+            final Class<T> type = (Class<T>) events[from].getClass();
+            int to = from + 1;
+            while (to < events.length && events[to].getClass() == type) {
+                to++;
+            }
+            final ListenerList<T> list = this.getListenerList(type);
+            if (list != null) {
+                this.postRun(list, type, events, from, to);
+            }
+            from = to;
+        }
+    }
+
+    /**
+     * Posts a batch of events to the Listeners of this bus, looking up the {@link ListenerList} of the specified type
+     * once. Events which aren't exactly of the specified type are posted individually.
+     */
+    private <T> void postAllLocal(@NotNull Class<T> type, @NotNull Object[] events) {
+        final ListenerList<T> list = this.getListenerList(type);
+        int from = 0;
+        for (int i = 0; i < events.length; i++) {
+            if (events[i].getClass() != type) {
+                if (list != null && from < i) {
+                    this.postRun(list, type, events, from, i);
+                }
+                this.postLocal(events[i]);
+                from = i + 1;
+            }
+        }
+        if (list != null && from < events.length) {
+            this.postRun(list, type, events, from, events.length);
+        }
+    }
+
+    /**
+     * Posts a run of events which are all exactly of the specified type to its {@link ListenerList}. A list which
+     * overrides {@link ListenerList#postAll} is compiled with a bridge method that casts the array to the list's own
+     * array type, so unless the component type of the batch is already the run's type, the run is copied into an
+     * array that is.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void postRun(ListenerList<T> list, Class<T> type, Object[] events, int from, int to) {
+        if (events.getClass().getComponentType() == type) {
+            list.postAll((T[]) events, from, to, this.eventDispatcher);
+        } else {
+            final T[] run = (T[]) Array.newInstance(type, to - from);
+            System.arraycopy(events, from, run, 0, run.length);
+            list.postAll(run, 0, run.length, this.eventDispatcher);
+        }
+    }
+
+    /**
+     * Returns the {@link ListenerList} that an event of the specified type should be posted to, or {@code null} if the
+     * type has no Listeners. Unlike {@link #getOrCreateListenerList}, event types which nothing listens to are never
+     * added to the active listeners, so posting them takes neither a lock nor any memory.
+     */
+    private <T> ListenerList<T> getListenerList(Class<T> target) {
+        final ListenerList<T> existing = this.getActiveList(target);
+        if (existing != null) {
+            return existing;
+        }
+        // Without super listeners, a missing list means nothing targets this type. Otherwise, a group only needs to be
+        // created once a supertype has Listeners that it should be linked to.
+        return this.hasSuperListeners(target) ? this.getOrCreateListenerList(target) : null;
+    }
+
+    /**
+     * Returns {@code true} if super listeners are enabled and any supertype of the specified type has Listeners.
+     */
+    private boolean hasSuperListeners(Class<?> type) {
+        if (!this.superListeners) {
+            return false;
+        }
+        final ConcurrentHashMap<Class<?>, ListenerList<?>> activeListeners = this.activeListeners;
+        for (Class<?> cls : Util.flattenHierarchyOrdered(type)) {
+            final ListenerList<?> list = activeListeners.get(cls);
+            if (list != null && !list.isEmpty()) {
+                return true;
+            }
+        }
+        // Interfaces don't extend Object, but are still assignable to it
+        final ListenerList<?> objectList = type.isInterface() ? activeListeners.get(Object.class) : null;
+        return objectList != null && !objectList.isEmpty();
     }
 
     @Override
@@ -133,15 +471,49 @@ public class EventManager implements EventBus {
     }
 
     private List<Listener<?>> getListeners(Subscriber subscriber) {
-        // TODO: Per-class candidate caching
+        final List<Listener<?>> listeners = new ArrayList<>();
+        // Bind the subscriber instance to each candidate of its class, which are only discovered once per class
+        for (ListenerCandidate<?> candidate : this.subscriberCandidateCache.get(subscriber.getClass())) {
+            candidate.bind(subscriber).forEach(listeners::add);
+        }
+        return Collections.unmodifiableList(listeners);
+    }
+
+    private List<Listener<?>> getWeakListeners(WeakReference<Subscriber> reference) {
+        final Subscriber subscriber = Objects.requireNonNull(reference.get());
+        final List<Listener<?>> listeners = new ArrayList<>();
+        for (ListenerCandidate<?> candidate : this.subscriberCandidateCache.get(subscriber.getClass())) {
+            candidate.bindWeak(reference).forEach(listeners::add);
+        }
+        return Collections.unmodifiableList(listeners);
+    }
+
+    private void unsubscribeAll(List<Listener<?>> listeners) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        // Group the Listeners by their target, so that each list only has to remove them once
+        final Map<Class<?>, List<Listener<?>>> byTarget = new HashMap<>();
+        for (Listener<?> listener : listeners) {
+            byTarget.computeIfAbsent(listener.getTarget(), target -> new ArrayList<>()).add(listener);
+        }
+        byTarget.forEach(this::unsubscribeAll);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void unsubscribeAll(Class<T> target, List<Listener<?>> listeners) {
+        final ListenerList<T> list = this.getActiveList(target);
+        if (list != null) {
+            list.removeAll((List<Listener<T>>) (List<?>) listeners);
+        }
+    }
 
+    private List<ListenerCandidate<?>> getCandidates(Class<? extends Subscriber> cls) {
         return Collections.unmodifiableList(
-            // Get all super-classes of 'subscriber' that inherit Subscriber (if 'parentDiscovery' is enabled)
-            this.getSubscriberHierarchy(subscriber.getClass())
+            // Get all super-classes of 'cls' that inherit Subscriber (if 'parentDiscovery' is enabled)
+            this.getSubscriberHierarchy(cls)
                 // Apply each discovery strategy to each class, and use flatMap to create a stream of candidates
-                .flatMap(cls -> this.discoveryStrategies.stream().flatMap(strategy -> strategy.findAll(cls)))
-                // Bind the subscriber instance to each candidate to its Listener instances
-                .flatMap(candidate -> candidate.bind(subscriber))
+                .flatMap(c -> this.discoveryStrategies.stream().flatMap(strategy -> strategy.findAll(c)))
                 .collect(Collectors.toList())
         );
     }
@@ -151,64 +523,61 @@ public class EventManager implements EventBus {
         if (!this.parentDiscovery) {
             return Stream.of(cls);
         }
-        return Util.flattenHierarchy(cls).stream()
+        return Util.flattenHierarchyOrdered(cls).stream()
             .filter(Subscriber.class::isAssignableFrom)
             .map(c -> (Class<? extends Subscriber>) c);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> ListenerList<T> getActiveList(Class<T> target) {
+        return (ListenerList<T>) this.activeListeners.get(target);
+    }
+
+    @SuppressWarnings("unchecked")
     private <T> ListenerList<T> getOrCreateListenerList(Class<T> target) {
-        // This method of initialization results in much faster dispatch than 'computeIfAbsent'
-        // It also guarantees that only one thread can call 'listenerListFactory.create(...)' at a time
-        final ListenerList<T> existing = this.activeListeners.get(target);
+        final ListenerList<T> existing = this.getActiveList(target);
         if (existing != null) {
             return existing;
         }
-        synchronized (this.activeListenersWriteLock) {
-            // Fetch the list again, as it could've been initialized since the lock was released.
-            final ListenerList<T> list = this.activeListeners.get(target);
-            if (list == null) {
-                // Validate the event type, throwing an IllegalArgumentException if it is invalid
-                Util.catchAndRethrow(() -> Events.validateEventType(target), IllegalArgumentException::new);
-
-                final ListenerList<T> newList = this.listenerListFactory.create(target);
-
-                // If insertion of a new key will require a rehash, then clone the map and reassign the field.
-                if (this.activeListeners.needsRehash()) {
-                    final Event2ListenersMap newMap = this.activeListeners.clone();
-                    newMap.put(target, newList);
-                    this.activeListeners = newMap;
-                } else {
-                    this.activeListeners.put(target, newList);
-                }
+        // Validate the event type, throwing an IllegalArgumentException if it is invalid
+        Util.catchAndRethrow(() -> Events.validateEventType(target), IllegalArgumentException::new);
 
-                return newList;
-            } else {
-                return list;
-            }
-        }
+        // Only locks the bin of the type, so that only one list is created for it, without blocking unrelated types
+        return (ListenerList<T>) this.activeListeners.computeIfAbsent(target, this.listenerListFactory::create);
     }
 
     public static @NotNull EventBusBuilder<EventBus> builder() {
         return new EventBusBuilder<>();
     }
 
-    private static final class Event2ListenersMap extends Reference2ObjectOpenHashMap<Class<?>, ListenerList<?>> {
+    private final class Channel<T> implements EventChannel<T> {
+
+        private final Class<T> type;
+        private final ListenerList<T> list;
+
+        private Channel(Class<T> type, ListenerList<T> list) {
+            this.type = type;
+            this.list = list;
+        }
 
-        @SuppressWarnings("unchecked")
-        private <T> ListenerList<T> get(final Class<T> target) {
-            return (ListenerList<T>) super.get(target);
+        @Override
+        public @NotNull Class<T> getType() {
+            return this.type;
         }
 
-        /**
-         * @return {@code true} if the next insertion of a new key will require a rehash.
-         */
-        private boolean needsRehash() {
-            return this.size >= this.maxFill;
+        @Override
+        public void post(@NotNull T event) {
+            if (event.getClass() == this.type) {
+                this.list.post(event, EventManager.this.eventDispatcher);
+            } else {
+                // Subclasses of the channel type have their own ListenerList
+                EventManager.this.postLocal(event);
+            }
         }
 
         @Override
-        public Event2ListenersMap clone() {
-            return (Event2ListenersMap) super.clone();
+        public String toString() {
+            return "EventChannel{bus=" + EventManager.this + ", type=" + this.type.getName() + "}";
         }
     }
 }
@@ -0,0 +1,49 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.IntListener;
+import me.zero.alpine.listener.ListenerExceptionHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A channel which posts {@code int} values to its {@link IntListener}s without boxing them. Primitive values
+ * aren't valid event types, so rather than sharing the Listeners of an {@link EventBus}, each channel holds its own.
+ * Channels are created by {@link EventBus#intChannel()}, and are typically stored in a constant alongside the bus:
+ * <pre>
+ * public static final IntEventChannel ENTITY_REMOVED = EVENT_BUS.intChannel();
+ *
+ * ENTITY_REMOVED.subscribe(new IntListener(id -&gt; this.entities.remove(id)));
+ * ENTITY_REMOVED.post(entity.getId());
+ * </pre>
+ * Listeners are called in order of their priority, and may be subscribed and unsubscribed while any number of threads
+ * are posting. Exceptions thrown by a Listener are handled by the {@link ListenerExceptionHandler} of the bus which
+ * created the channel, in the same way as for any other event, in which case the value is boxed and the Listener is
+ * reported by its {@link IntListener#asListener() boxed view}. The remaining Listeners aren't called.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class IntEventChannel extends PrimitiveEventChannel<IntListener> {
+
+    private static final IntListener[] EMPTY_LISTENERS = new IntListener[0];
+
+    IntEventChannel(@Nullable ListenerExceptionHandler exceptionHandler) {
+        super(EMPTY_LISTENERS, exceptionHandler);
+    }
+
+    /**
+     * Posts a value to all the {@link IntListener}s of this channel.
+     *
+     * @param value Value being posted
+     */
+    public void post(int value) {
+        final IntListener[] listeners = this.listeners();
+        int i = 0;
+        try {
+            for (; i < listeners.length; i++) {
+                listeners[i].accept(value);
+            }
+        } catch (Throwable cause) {
+            this.handleException(value, listeners[i].asListener(), cause);
+        }
+    }
+}
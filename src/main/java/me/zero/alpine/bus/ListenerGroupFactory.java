@@ -0,0 +1,88 @@
+package me.zero.alpine.bus;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import me.zero.alpine.listener.ListenerGroup;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps the {@link ListenerList} created by another factory in a {@link ListenerGroup}, and links it to the groups of
+ * all supertypes and subtypes which were previously created. Used by {@link EventManager} when super listeners are
+ * enabled.
+ * <p>
+ * Rather than testing every existing group for assignability, an index from each type to the groups of its known
+ * subtypes is maintained. Linking a new type only looks up the groups of its own supertypes, and the index entry of
+ * the type itself, so the cost is proportional to the depth of the type hierarchy rather than the number of types.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+final class ListenerGroupFactory implements ListenerListFactory {
+
+    private final ListenerListFactory factory;
+
+    /**
+     * The groups which have been created by this factory, by event type.
+     */
+    private final Reference2ObjectOpenHashMap<Class<?>, ListenerGroup<?>> groups;
+
+    /**
+     * The groups of every created event type, indexed by each of their supertypes.
+     */
+    private final Reference2ObjectOpenHashMap<Class<?>, List<ListenerGroup<?>>> subtypes;
+
+    ListenerGroupFactory(ListenerListFactory factory) {
+        this.factory = factory;
+        this.groups = new Reference2ObjectOpenHashMap<>();
+        this.subtypes = new Reference2ObjectOpenHashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public synchronized <T> @NotNull ListenerList<T> create(Class<T> cls) {
+        final ListenerGroup<T> group = new ListenerGroup<>(this.factory.create(cls));
+        final Class<?>[] supertypes = supertypes(cls);
+
+        // Link target to inherited types
+        for (Class<?> supertype : supertypes) {
+            final ListenerGroup<? super T> superGroup = (ListenerGroup<? super T>) this.groups.get(supertype);
+            if (superGroup != null) {
+                group.addChild(superGroup);
+            }
+        }
+
+        // Link inheriting types to target
+        final List<ListenerGroup<?>> subGroups = this.subtypes.get(cls);
+        if (subGroups != null) {
+            for (ListenerGroup<?> subGroup : subGroups) {
+                ((ListenerGroup<? extends T>) subGroup).addChild(group);
+            }
+        }
+
+        // Index the new group, so that it can be found by supertypes created later
+        for (Class<?> supertype : supertypes) {
+            this.subtypes.computeIfAbsent(supertype, k -> new ArrayList<>()).add(group);
+        }
+        this.groups.put(cls, group);
+        return group;
+    }
+
+    /**
+     * Returns every type that the specified type is assignable to, excluding itself.
+     */
+    private static Class<?>[] supertypes(Class<?> cls) {
+        // The flattened hierarchy always starts with the type itself
+        final List<Class<?>> hierarchy = Util.flattenHierarchyOrdered(cls);
+        final List<Class<?>> supertypes = new ArrayList<>(hierarchy.subList(1, hierarchy.size()));
+        // Interfaces don't extend Object, but are still assignable to it
+        if (cls.isInterface()) {
+            supertypes.add(Object.class);
+        }
+        return supertypes.toArray(new Class<?>[0]);
+    }
+}
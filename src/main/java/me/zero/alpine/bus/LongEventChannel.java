@@ -0,0 +1,49 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.LongListener;
+import me.zero.alpine.listener.ListenerExceptionHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A channel which posts {@code long} values to its {@link LongListener}s without boxing them. Primitive values
+ * aren't valid event types, so rather than sharing the Listeners of an {@link EventBus}, each channel holds its own.
+ * Channels are created by {@link EventBus#longChannel()}, and are typically stored in a constant alongside the bus:
+ * <pre>
+ * public static final LongEventChannel TICK_STARTED = EVENT_BUS.longChannel();
+ *
+ * TICK_STARTED.subscribe(new LongListener(time -&gt; this.lastTick = time));
+ * TICK_STARTED.post(System.nanoTime());
+ * </pre>
+ * Listeners are called in order of their priority, and may be subscribed and unsubscribed while any number of threads
+ * are posting. Exceptions thrown by a Listener are handled by the {@link ListenerExceptionHandler} of the bus which
+ * created the channel, in the same way as for any other event, in which case the value is boxed and the Listener is
+ * reported by its {@link LongListener#asListener() boxed view}. The remaining Listeners aren't called.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class LongEventChannel extends PrimitiveEventChannel<LongListener> {
+
+    private static final LongListener[] EMPTY_LISTENERS = new LongListener[0];
+
+    LongEventChannel(@Nullable ListenerExceptionHandler exceptionHandler) {
+        super(EMPTY_LISTENERS, exceptionHandler);
+    }
+
+    /**
+     * Posts a value to all the {@link LongListener}s of this channel.
+     *
+     * @param value Value being posted
+     */
+    public void post(long value) {
+        final LongListener[] listeners = this.listeners();
+        int i = 0;
+        try {
+            for (; i < listeners.length; i++) {
+                listeners[i].accept(value);
+            }
+        } catch (Throwable cause) {
+            this.handleException(value, listeners[i].asListener(), cause);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package me.zero.alpine.bus;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Distributes asynchronously posted events across a fixed number of lanes, each of which is a single thread that calls
+ * the Listeners of its events in the order they were posted. The lane of an event is chosen by hashing a key extracted
+ * from the event, so that all events with the same key are delivered in order, while events with different keys may
+ * be delivered in parallel. For example, using the id of a connection as the key preserves the order of the events
+ * of each connection.
+ * <p>
+ * Events for which the key extractor returns {@code null} have no ordering requirement, and are spread across all
+ * lanes. An executor is used by an {@link EventBus} by passing it to
+ * {@link EventBusBuilder#setPartitionedExecutor(PartitionedExecutor)}, after which {@link EventBus#postAsync(Object)}
+ * posts to the lane of each event. The lanes are owned by the creator of this executor, and must be stopped with
+ * {@link #shutdown()}.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class PartitionedExecutor {
+
+    private static final AtomicInteger ID = new AtomicInteger();
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Function<Object, ?> keyExtractor;
+
+    /**
+     * Creates a new {@link PartitionedExecutor} with daemon lane threads.
+     *
+     * @param lanes        The number of lanes
+     * @param keyExtractor The function which returns the key of an event, or {@code null} if it has no key
+     */
+    public PartitionedExecutor(int lanes, @NotNull Function<Object, ?> keyExtractor) {
+        this(lanes, keyExtractor, defaultThreadFactory());
+    }
+
+    /**
+     * Creates a new {@link PartitionedExecutor}.
+     *
+     * @param lanes         The number of lanes
+     * @param keyExtractor  The function which returns the key of an event, or {@code null} if it has no key
+     * @param threadFactory The factory used to create the thread of each lane
+     * @throws IllegalArgumentException If the number of lanes isn't positive
+     */
+    public PartitionedExecutor(int lanes, @NotNull Function<Object, ?> keyExtractor, @NotNull ThreadFactory threadFactory) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        Objects.requireNonNull(threadFactory);
+        this.keyExtractor = Objects.requireNonNull(keyExtractor);
+        this.lanes = new ThreadPoolExecutor[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        }
+    }
+
+    /**
+     * Returns the index of the lane that the specified event is delivered on.
+     *
+     * @param event The event
+     * @return The lane index
+     */
+    public int laneOf(@NotNull Object event) {
+        final Object key = this.keyExtractor.apply(event);
+        final int hash = key != null ? key.hashCode() : System.identityHashCode(event);
+        // Spread the high bits, since hash codes such as those of small integers commonly only differ in the low bits
+        return Math.floorMod(hash ^ (hash >>> 16), this.lanes.length);
+    }
+
+    /**
+     * Returns the executor of the lane that the specified event is delivered on.
+     *
+     * @param event The event
+     * @return The lane executor
+     */
+    public @NotNull Executor lane(@NotNull Object event) {
+        return this.lanes[this.laneOf(event)];
+    }
+
+    /**
+     * Returns the number of lanes
+     */
+    public int getLaneCount() {
+        return this.lanes.length;
+    }
+
+    /**
+     * Returns the number of events which are waiting to be delivered on the specified lane, excluding the event that is
+     * currently being delivered, if any.
+     *
+     * @param lane The lane index
+     * @return The queue depth
+     */
+    public int getQueueDepth(int lane) {
+        return this.lanes[lane].getQueue().size();
+    }
+
+    /**
+     * Returns the queue depth of every lane, indexed by lane.
+     *
+     * @return The queue depths
+     * @see #getQueueDepth(int)
+     */
+    public int[] getQueueDepths() {
+        final int[] depths = new int[this.lanes.length];
+        for (int i = 0; i < depths.length; i++) {
+            depths[i] = this.getQueueDepth(i);
+        }
+        return depths;
+    }
+
+    /**
+     * Returns the number of events which have been delivered on the specified lane. This is an approximation, in the
+     * same way as {@link ThreadPoolExecutor#getCompletedTaskCount()}.
+     *
+     * @param lane The lane index
+     * @return The delivered event count
+     */
+    public long getCompletedCount(int lane) {
+        return this.lanes[lane].getCompletedTaskCount();
+    }
+
+    /**
+     * Stops all lanes from accepting new events. Events which are already queued are still delivered.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : this.lanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * Blocks until all lanes have terminated after {@link #shutdown()}, or the timeout elapses.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit    The unit of the timeout
+     * @return {@code true} if all lanes terminated, or {@code false} if the timeout elapsed
+     * @throws InterruptedException If the current thread was interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor lane : this.lanes) {
+            if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ThreadFactory defaultThreadFactory() {
+        final int id = ID.incrementAndGet();
+        final AtomicInteger lane = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "Alpine-Partitioned-" + id + "-Lane-" + lane.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerExceptionHandler;
+import me.zero.alpine.listener.concurrent.CopyOnWriteListenerList;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The base of the channels which post primitive values without boxing them. Like {@link CopyOnWriteListenerList}, the
+ * Listeners are held in an array ordered by priority, which is replaced by every modification, so that a channel may
+ * be posted to by any number of threads concurrently. Subclasses post to the array returned by {@link #listeners()},
+ * and pass any exception thrown by a Listener to {@link #handleException}, which applies the exception handling of the
+ * {@link EventBus} which created the channel.
+ *
+ * @param <L> The type of the Listeners
+ * @author Brady
+ * @see IntEventChannel
+ * @see LongEventChannel
+ * @see DoubleEventChannel
+ * @since 3.1.1
+ */
+abstract class PrimitiveEventChannel<L extends Comparable<? super L>> {
+
+    private volatile L[] listeners;
+    private final Object lock;
+    private final ListenerExceptionHandler exceptionHandler;
+
+    PrimitiveEventChannel(@NotNull L[] empty, @Nullable ListenerExceptionHandler exceptionHandler) {
+        this.listeners = empty;
+        this.lock = new Object();
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    /**
+     * Adds the specified Listener to this channel.
+     *
+     * @param listener The listener
+     * @return {@code true} if the listener was added, or {@code false} if it was already subscribed
+     */
+    public final boolean subscribe(@NotNull L listener) {
+        synchronized (this.lock) {
+            final L[] arr = this.listeners;
+            if (Arrays.asList(arr).contains(listener)) {
+                return false;
+            }
+
+            int index = Arrays.binarySearch(arr, listener);
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            this.listeners = Util.arrayInsert(arr, index, listener);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the specified Listener from this channel.
+     *
+     * @param listener The listener
+     * @return {@code true} if the listener was removed, or {@code false} if it wasn't subscribed
+     */
+    public final boolean unsubscribe(@NotNull L listener) {
+        synchronized (this.lock) {
+            final L[] arr = this.listeners;
+            final int index = Arrays.asList(arr).indexOf(listener);
+            if (index < 0) {
+                return false;
+            }
+
+            this.listeners = Util.arrayRemove(arr, index);
+            return true;
+        }
+    }
+
+    /**
+     * Returns {@code true} if this channel has no Listeners.
+     */
+    public final boolean isEmpty() {
+        return this.listeners.length == 0;
+    }
+
+    /**
+     * Returns the current array of Listeners, ordered by priority. The returned array must not be modified.
+     */
+    final L[] listeners() {
+        return this.listeners;
+    }
+
+    /**
+     * Handles an exception thrown by a Listener in the same way as the {@link EventBus} which created this channel,
+     * propagating it unless the exception handler of the bus chooses to ignore it.
+     */
+    final <T> void handleException(T value, Listener<T> listener, Throwable cause) {
+        if (this.exceptionHandler == null || this.exceptionHandler.handleException(value, listener, cause)) {
+            throw Util.sneakyThrow(cause);
+        }
+    }
+}
@@ -0,0 +1,584 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.event.EventPool;
+import me.zero.alpine.event.PooledEvent;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscriber;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An {@link EventBus} which hands events from any number of posting threads to a single consumer thread through a
+ * preallocated ring buffer, in the style of the LMAX Disruptor. Posting claims the next slot of the buffer with a
+ * single CAS and never allocates, and the consumer delivers events in the order their slots were claimed by posting
+ * them to an {@link EventManager} created from the {@link EventBusBuilder} passed to the constructor. Listeners are
+ * therefore always called on the consumer thread, and all subscription methods are forwarded to the inner bus. The
+ * exception is primitive channels, which are created by the inner bus and call their Listeners on the posting thread.
+ * <p>
+ * Events may be posted either by reference, with {@link #post(Object)}, or by {@link #publish(BiConsumer, Object)
+ * publishing} into a mutable event that is preallocated for each slot by the event factory. Published events are
+ * reused once the consumer has moved past their slot, so Listeners must not retain them. When the buffer is full,
+ * posting threads park until the consumer has freed a slot, while the {@link WaitStrategy} of this bus determines how
+ * the consumer waits for events to be posted.
+ * <p>
+ * Events posted with {@link #postPooled(EventPool, Consumer)} are borrowed and initialized by the posting thread, and
+ * returned to their pool by the consumer thread once they have been delivered. Since each thread has its own pool,
+ * the instances end up in the pool of the consumer thread, so the pool of a posting thread is only refilled by events
+ * it releases itself.
+ * <p>
+ * Since posting only enqueues the event, {@link #post(me.zero.alpine.event.Cancellable)} can't observe whether the
+ * event was cancelled. Exceptions propagated by Listeners are passed to the uncaught exception handler of the
+ * consumer thread, which then carries on with the next event. The consumer thread runs until {@link #shutdown()} is
+ * called and every accepted event has been delivered.
+ *
+ * @param <E> The type of the preallocated events
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class RingBufferEventBus<E> implements EventBus {
+
+    private static final AtomicInteger ID = new AtomicInteger();
+
+    private final EventBus delegate;
+    private final WaitStrategy waitStrategy;
+    private final Slot<E>[] slots;
+    private final int mask;
+    private final int shift;
+
+    /**
+     * The round of the buffer in which each slot was last published, which is {@code sequence >>> shift}.
+     */
+    private final AtomicIntegerArray published;
+
+    /**
+     * The last sequence claimed by a posting thread.
+     */
+    private final AtomicLong claimed;
+
+    /**
+     * The last sequence delivered by the consumer thread.
+     */
+    private final AtomicLong consumed;
+
+    /**
+     * The value of {@link #consumed} last read by a posting thread, which avoids reading the consumer's sequence while
+     * the buffer is known to have space.
+     */
+    private volatile long cachedConsumed;
+
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new {@link RingBufferEventBus} without preallocated events, which only accepts events posted by
+     * reference.
+     *
+     * @param builder      The builder of the bus which delivers the events
+     * @param bufferSize   The number of slots in the buffer, which must be a power of two
+     * @param waitStrategy The strategy used by the consumer thread to wait for events
+     */
+    public RingBufferEventBus(@NotNull EventBusBuilder<?> builder, int bufferSize, @NotNull WaitStrategy waitStrategy) {
+        this(builder, bufferSize, waitStrategy, null);
+    }
+
+    /**
+     * Creates a new {@link RingBufferEventBus} with a daemon consumer thread.
+     *
+     * @param builder      The builder of the bus which delivers the events
+     * @param bufferSize   The number of slots in the buffer, which must be a power of two
+     * @param waitStrategy The strategy used by the consumer thread to wait for events
+     * @param eventFactory The factory of the event preallocated for each slot, or {@code null} if events are only
+     *                     posted by reference
+     */
+    public RingBufferEventBus(@NotNull EventBusBuilder<?> builder, int bufferSize, @NotNull WaitStrategy waitStrategy,
+                              @Nullable Supplier<? extends E> eventFactory) {
+        this(builder, bufferSize, waitStrategy, eventFactory, r -> {
+            final Thread thread = new Thread(r, "Alpine-RingBuffer-" + ID.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a new {@link RingBufferEventBus}.
+     *
+     * @param builder       The builder of the bus which delivers the events
+     * @param bufferSize    The number of slots in the buffer, which must be a power of two
+     * @param waitStrategy  The strategy used by the consumer thread to wait for events
+     * @param eventFactory  The factory of the event preallocated for each slot, or {@code null} if events are only
+     *                      posted by reference
+     * @param threadFactory The factory used to create the consumer thread
+     * @throws IllegalArgumentException If the buffer size isn't a positive power of two
+     */
+    public RingBufferEventBus(@NotNull EventBusBuilder<?> builder, int bufferSize, @NotNull WaitStrategy waitStrategy,
+                              @Nullable Supplier<? extends E> eventFactory, @NotNull ThreadFactory threadFactory) {
+        if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a positive power of two");
+        }
+        this.delegate = builder.build();
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        this.slots = newSlotArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            this.slots[i] = new Slot<>(eventFactory != null ? eventFactory.get() : null);
+        }
+        this.mask = bufferSize - 1;
+        this.shift = Integer.numberOfTrailingZeros(bufferSize);
+        this.published = new AtomicIntegerArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            this.published.set(i, -1);
+        }
+        this.claimed = new AtomicLong(-1);
+        this.consumed = new AtomicLong(-1);
+        this.cachedConsumed = -1;
+
+        threadFactory.newThread(this::consume).start();
+    }
+
+    @Override
+    public @NotNull String name() {
+        return this.delegate.name();
+    }
+
+    @Override
+    public void subscribe(@NotNull Subscriber subscriber) {
+        this.delegate.subscribe(subscriber);
+    }
+
+    @Override
+    public <T> void subscribe(@NotNull Listener<T> listener) {
+        this.delegate.subscribe(listener);
+    }
+
+    @Override
+    public void subscribeWeak(@NotNull Subscriber subscriber) {
+        this.delegate.subscribeWeak(subscriber);
+    }
+
+    @Override
+    public void unsubscribe(@NotNull Subscriber subscriber) {
+        this.delegate.unsubscribe(subscriber);
+    }
+
+    @Override
+    public <T> void unsubscribe(@NotNull Listener<T> listener) {
+        this.delegate.unsubscribe(listener);
+    }
+
+    @Override
+    public boolean hasListeners(@NotNull Class<?> type) {
+        return this.delegate.hasListeners(type);
+    }
+
+    /**
+     * Returns a channel created by the inner bus. Primitive channels don't pass through the ring buffer, so their
+     * Listeners are called on the posting thread.
+     */
+    @Override
+    public @NotNull IntEventChannel intChannel() {
+        return this.delegate.intChannel();
+    }
+
+    /**
+     * Returns a channel created by the inner bus. Primitive channels don't pass through the ring buffer, so their
+     * Listeners are called on the posting thread.
+     */
+    @Override
+    public @NotNull LongEventChannel longChannel() {
+        return this.delegate.longChannel();
+    }
+
+    /**
+     * Returns a channel created by the inner bus. Primitive channels don't pass through the ring buffer, so their
+     * Listeners are called on the posting thread.
+     */
+    @Override
+    public @NotNull DoubleEventChannel doubleChannel() {
+        return this.delegate.doubleChannel();
+    }
+
+    /**
+     * Enqueues an event to be delivered by the consumer thread, waiting for space in the buffer if it is full.
+     *
+     * @param event Event being called
+     * @param <T>   The event type
+     * @throws RejectedExecutionException If this bus has been shut down
+     */
+    @Override
+    public <T> void post(@NotNull T event) {
+        Objects.requireNonNull(event);
+        final long sequence = this.claim();
+        this.slots[(int) sequence & this.mask].event = event;
+        this.markPublished(sequence);
+    }
+
+    @Override
+    public <T> void postAll(@NotNull T[] events) {
+        for (T event : events) {
+            this.post(event);
+        }
+    }
+
+    @Override
+    public <T> void postAll(@NotNull Collection<T> events) {
+        for (T event : events) {
+            this.post(event);
+        }
+    }
+
+    @Override
+    public <T> void postAll(@NotNull Class<T> type, @NotNull Collection<? extends T> events) {
+        for (T event : events) {
+            this.post(event);
+        }
+    }
+
+    /**
+     * Enqueues an event to be delivered by the consumer thread, waiting for space in the buffer if it is full. The
+     * returned future is completed by the consumer thread once every Listener has been called.
+     */
+    @Override
+    public <T> @NotNull CompletableFuture<T> postAsync(@NotNull T event) {
+        Objects.requireNonNull(event);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final long sequence;
+        try {
+            sequence = this.claim();
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        final Slot<E> slot = this.slots[(int) sequence & this.mask];
+        slot.event = event;
+        slot.future = future;
+        this.markPublished(sequence);
+        return future;
+    }
+
+    /**
+     * Equivalent to {@link #postAsync(Object)}. Listeners are always called on the consumer thread, so the executor
+     * isn't used.
+     */
+    @Override
+    public <T> @NotNull CompletableFuture<T> postAsync(@NotNull T event, @NotNull Executor executor) {
+        Objects.requireNonNull(executor);
+        return this.postAsync(event);
+    }
+
+    /**
+     * Borrows an event from the specified pool and initializes it on the calling thread, then enqueues it to be
+     * delivered by the consumer thread, which returns it to the pool once every Listener has been called. If the
+     * initializer throws an exception, or the bus has been shut down, the event is returned to the pool immediately.
+     *
+     * @throws RejectedExecutionException If this bus has been shut down
+     */
+    @Override
+    public <T extends PooledEvent> void postPooled(@NotNull EventPool<T> pool,
+                                                   @NotNull Consumer<? super T> initializer) {
+        final T event = pool.acquire();
+        final long sequence;
+        try {
+            initializer.accept(event);
+            sequence = this.claim();
+        } catch (Throwable t) {
+            pool.release(event);
+            throw t;
+        }
+        final Slot<E> slot = this.slots[(int) sequence & this.mask];
+        slot.event = event;
+        slot.pool = pool;
+        this.markPublished(sequence);
+    }
+
+    /**
+     * Claims the next slot of the buffer, fills in its preallocated event with the specified translator, and enqueues
+     * the event to be delivered by the consumer thread. If the translator throws an exception, the event isn't
+     * delivered.
+     *
+     * @param translator The translator which fills in the event
+     * @throws IllegalStateException      If this bus has no event factory
+     * @throws RejectedExecutionException If this bus has been shut down
+     */
+    public void publish(@NotNull Consumer<? super E> translator) {
+        this.publish((value, t) -> t.accept(value), translator);
+    }
+
+    /**
+     * Claims the next slot of the buffer, fills in its preallocated event with the specified translator, and enqueues
+     * the event to be delivered by the consumer thread. Passing the data through the argument rather than capturing it
+     * in the translator allows the translator to be a constant, so publishing doesn't allocate. If the translator
+     * throws an exception, the event isn't delivered.
+     *
+     * @param translator The translator which fills in the event from the argument
+     * @param arg        The argument
+     * @param <A>        The argument type
+     * @throws IllegalStateException      If this bus has no event factory
+     * @throws RejectedExecutionException If this bus has been shut down
+     */
+    public <A> void publish(@NotNull BiConsumer<? super E, ? super A> translator, A arg) {
+        if (this.slots[0].value == null) {
+            throw new IllegalStateException("RingBufferEventBus has no event factory");
+        }
+        final long sequence = this.claim();
+        final Slot<E> slot = this.slots[(int) sequence & this.mask];
+        try {
+            translator.accept(slot.value, arg);
+            slot.event = slot.value;
+        } finally {
+            // The slot must be published even if the translator failed, otherwise the consumer would wait on it forever
+            this.markPublished(sequence);
+        }
+    }
+
+    /**
+     * Stops this bus from accepting any further events, which causes posting to throw a
+     * {@link RejectedExecutionException}. Events which were already posted will still be delivered, after which the
+     * consumer thread exits.
+     */
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        this.delegate.shutdown();
+    }
+
+    /**
+     * Blocks until every event which was posted before this call has been delivered to its Listeners, or the timeout
+     * elapses.
+     */
+    @Override
+    public boolean awaitQuiescence(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        final long target = this.claimed.get();
+        while (this.consumed.get() < target) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(WaitStrategy.PARK_NANOS);
+        }
+        return this.delegate.awaitQuiescence(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of slots in the buffer.
+     */
+    public int getBufferSize() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns the number of events which have been posted, but haven't been delivered yet.
+     */
+    public int getPending() {
+        return (int) (this.claimed.get() - this.consumed.get());
+    }
+
+    private long claim() {
+        if (this.shutdown) {
+            throw new RejectedExecutionException("EventBus has been shut down");
+        }
+        long current, next;
+        do {
+            current = this.claimed.get();
+            next = current + 1;
+            final long wrapPoint = next - this.slots.length;
+            if (wrapPoint > this.cachedConsumed) {
+                final long consumed = this.consumed.get();
+                if (wrapPoint > consumed) {
+                    // The buffer is full, so wait for the consumer to free the slot. This always parks, since spinning
+                    // posting threads would compete with the consumer thread for CPU time.
+                    LockSupport.parkNanos(1L);
+                    continue;
+                }
+                this.cachedConsumed = consumed;
+            }
+            if (this.claimed.compareAndSet(current, next)) {
+                break;
+            }
+        } while (true);
+
+        // The consumer only exits once it has seen the shutdown flag and consumed every claimed sequence, so checking
+        // again after claiming ensures that an accepted event is never left behind
+        if (this.shutdown) {
+            this.slots[(int) next & this.mask].event = null;
+            this.markPublished(next);
+            throw new RejectedExecutionException("EventBus has been shut down");
+        }
+        return next;
+    }
+
+    private void markPublished(long sequence) {
+        this.published.lazySet((int) sequence & this.mask, (int) (sequence >>> this.shift));
+    }
+
+    private boolean isPublished(long sequence) {
+        return this.published.get((int) sequence & this.mask) == (int) (sequence >>> this.shift);
+    }
+
+    private void consume() {
+        long next = this.consumed.get() + 1;
+        int idle = 0;
+        while (true) {
+            if (!this.isPublished(next)) {
+                if (this.shutdown && this.claimed.get() < next) {
+                    return;
+                }
+                idle = this.waitStrategy.idle(idle);
+                continue;
+            }
+            idle = 0;
+
+            // Deliver every published event up to the first gap before releasing their slots to the posting threads
+            long last = next;
+            while (this.isPublished(last + 1) && last + 1 - next < this.slots.length) {
+                last++;
+            }
+            for (long sequence = next; sequence <= last; sequence++) {
+                final Slot<E> slot = this.slots[(int) sequence & this.mask];
+                final Object event = slot.event;
+                final EventPool<?> pool = slot.pool;
+                final CompletableFuture<?> future = slot.future;
+                slot.event = null;
+                slot.pool = null;
+                slot.future = null;
+                if (event != null) {
+                    this.deliver(event, pool, future);
+                }
+            }
+            this.consumed.lazySet(last);
+            next = last + 1;
+        }
+    }
+
+    private void deliver(Object event, @Nullable EventPool<?> pool, @Nullable CompletableFuture<?> future) {
+        try {
+            try {
+                this.delegate.post(event);
+            } finally {
+                if (pool != null) {
+                    release(pool, event);
+                }
+            }
+        } catch (Throwable t) {
+            if (future != null) {
+                future.completeExceptionally(t);
+                return;
+            }
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            return;
+        }
+        if (future != null) {
+            complete(future, event);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void complete(CompletableFuture<T> future, Object event) {
+        future.complete((T) event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends PooledEvent> void release(EventPool<T> pool, Object event) {
+        pool.release((T) event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Slot<E>[] newSlotArray(int length) {
+        return (Slot<E>[]) new Slot<?>[length];
+    }
+
+    private static final class Slot<E> {
+
+        final E value;
+        Object event;
+
+        /**
+         * The pool which the event was borrowed from, if it was posted with {@link #postPooled(EventPool, Consumer)}.
+         */
+        EventPool<?> pool;
+
+        /**
+         * The future of the event, if it was posted with {@link #postAsync(Object)}.
+         */
+        CompletableFuture<?> future;
+
+        Slot(E value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Determines how the consumer thread of a {@link RingBufferEventBus} waits for events to be posted.
+     *
+     * @since 3.1.1
+     */
+    public enum WaitStrategy {
+
+        /**
+         * Spins continuously, which gives the lowest latency at the cost of keeping a core busy at all times.
+         */
+        BUSY_SPIN {
+            @Override
+            int idle(int counter) {
+                return counter;
+            }
+        },
+
+        /**
+         * Spins briefly, then yields to other threads between checks.
+         */
+        YIELD {
+            @Override
+            int idle(int counter) {
+                if (counter < SPIN_TRIES) {
+                    return counter + 1;
+                }
+                Thread.yield();
+                return counter;
+            }
+        },
+
+        /**
+         * Spins and yields briefly, then parks for a short time between checks. This uses the least CPU while idle,
+         * but adds latency to events which are posted while the consumer is parked.
+         */
+        PARK {
+            @Override
+            int idle(int counter) {
+                if (counter < SPIN_TRIES) {
+                    return counter + 1;
+                }
+                if (counter < SPIN_TRIES * 2) {
+                    Thread.yield();
+                    return counter + 1;
+                }
+                LockSupport.parkNanos(PARK_NANOS);
+                return counter;
+            }
+        };
+
+        private static final int SPIN_TRIES = 100;
+        private static final long PARK_NANOS = 100L;
+
+        /**
+         * Waits once, and returns the number of times the thread has waited so far.
+         */
+        abstract int idle(int counter);
+    }
+}
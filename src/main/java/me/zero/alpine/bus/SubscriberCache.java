@@ -0,0 +1,156 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscriber;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Caches the {@link Listener}s bound to each {@link Subscriber}. The Listeners of subscribed instances are always kept,
+ * and the {@link SubscriberCachePolicy} decides which of the Listeners of unsubscribed instances are kept.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+final class SubscriberCache {
+
+    private final SubscriberCachePolicy policy;
+
+    /**
+     * The Listeners of each subscribed instance. With {@link SubscriberCachePolicy#retain()}, unsubscribed instances
+     * are also kept here.
+     */
+    private final ConcurrentHashMap<Subscriber, List<Listener<?>>> subscribed;
+
+    /**
+     * The Listeners of unsubscribed instances, with {@link SubscriberCachePolicy#lru(int)}.
+     */
+    private final Map<Subscriber, List<Listener<?>>> recent;
+
+    /**
+     * The Listeners of unsubscribed instances, with {@link SubscriberCachePolicy#soft()}. Entries whose Listeners have
+     * been cleared are removed when their reference is polled from the queue.
+     */
+    private final ConcurrentHashMap<Subscriber, SoftEntry> soft;
+    private final ReferenceQueue<List<Listener<?>>> queue;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    SubscriberCache(SubscriberCachePolicy policy) {
+        this.policy = policy;
+        this.subscribed = new ConcurrentHashMap<>();
+        this.recent = policy.kind == SubscriberCachePolicy.Kind.LRU
+            ? new LinkedHashMap<Subscriber, List<Listener<?>>>(16, 0.75F, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Subscriber, List<Listener<?>>> eldest) {
+                    return this.size() > policy.maximumSize;
+                }
+            }
+            : null;
+        this.soft = policy.kind == SubscriberCachePolicy.Kind.SOFT ? new ConcurrentHashMap<>() : null;
+        this.queue = new ReferenceQueue<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Calls the action with the Listeners of the specified subscriber, binding them if they aren't cached, and marks
+     * the subscriber as subscribed. The action is called atomically with respect to {@link #unsubscribe} of the same
+     * subscriber.
+     */
+    void subscribe(Subscriber subscriber, Function<Subscriber, List<Listener<?>>> binder, Consumer<Listener<?>> action) {
+        this.subscribed.compute(subscriber, (key, listeners) -> {
+            if (listeners == null) {
+                listeners = this.takeUnsubscribed(key);
+            }
+            if (listeners != null) {
+                this.hits.increment();
+            } else {
+                this.misses.increment();
+                listeners = binder.apply(key);
+            }
+            listeners.forEach(action);
+            return listeners;
+        });
+    }
+
+    /**
+     * Calls the action with the Listeners of the specified subscriber, if it has any, and hands them to the policy.
+     */
+    void unsubscribe(Subscriber subscriber, Consumer<Listener<?>> action) {
+        this.subscribed.computeIfPresent(subscriber, (key, listeners) -> {
+            listeners.forEach(action);
+            if (this.policy.kind == SubscriberCachePolicy.Kind.RETAIN) {
+                return listeners;
+            }
+            this.putUnsubscribed(key, listeners);
+            return null;
+        });
+    }
+
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    long getMisses() {
+        return this.misses.sum();
+    }
+
+    private List<Listener<?>> takeUnsubscribed(Subscriber subscriber) {
+        switch (this.policy.kind) {
+            case LRU:
+                synchronized (this.recent) {
+                    return this.recent.remove(subscriber);
+                }
+            case SOFT:
+                this.expungeCleared();
+                final SoftEntry entry = this.soft.remove(subscriber);
+                return entry != null ? entry.get() : null;
+            default:
+                return null;
+        }
+    }
+
+    private void putUnsubscribed(Subscriber subscriber, List<Listener<?>> listeners) {
+        switch (this.policy.kind) {
+            case LRU:
+                synchronized (this.recent) {
+                    this.recent.put(subscriber, listeners);
+                }
+                break;
+            case SOFT:
+                this.expungeCleared();
+                this.soft.put(subscriber, new SoftEntry(subscriber, listeners, this.queue));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void expungeCleared() {
+        SoftEntry entry;
+        while ((entry = (SoftEntry) this.queue.poll()) != null) {
+            this.soft.remove(entry.subscriber, entry);
+        }
+    }
+
+    private static final class SoftEntry extends SoftReference<List<Listener<?>>> {
+
+        final Subscriber subscriber;
+
+        SoftEntry(Subscriber subscriber, List<Listener<?>> listeners, ReferenceQueue<List<Listener<?>>> queue) {
+            super(listeners, queue);
+            this.subscriber = subscriber;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscriber;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Determines how long an {@link EventManager} keeps the {@link Listener}s bound to a {@link Subscriber} after it has
+ * been unsubscribed. Keeping the Listeners means that subscribing the same instance again doesn't have to bind them
+ * again, at the cost of retaining the subscriber. The Listeners of a subscriber are always kept while it is
+ * subscribed, since they are needed to unsubscribe it, so a policy only affects unsubscribed instances.
+ *
+ * @author Brady
+ * @see EventBusBuilder#setSubscriberCachePolicy(SubscriberCachePolicy)
+ * @since 3.1.1
+ */
+public final class SubscriberCachePolicy {
+
+    private static final SubscriberCachePolicy RETAIN = new SubscriberCachePolicy(Kind.RETAIN, 0);
+    private static final SubscriberCachePolicy EVICT_ON_UNSUBSCRIBE = new SubscriberCachePolicy(Kind.EVICT, 0);
+    private static final SubscriberCachePolicy SOFT = new SubscriberCachePolicy(Kind.SOFT, 0);
+
+    final Kind kind;
+    final int maximumSize;
+
+    private SubscriberCachePolicy(Kind kind, int maximumSize) {
+        this.kind = kind;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns a policy which keeps the Listeners of every subscriber for the lifetime of the bus. This is the default
+     * policy, and is best suited to a fixed set of subscribers which are frequently subscribed and unsubscribed.
+     *
+     * @return The policy
+     * @since 3.1.1
+     */
+    public static @NotNull SubscriberCachePolicy retain() {
+        return RETAIN;
+    }
+
+    /**
+     * Returns a policy which discards the Listeners of a subscriber as soon as it is unsubscribed.
+     *
+     * @return The policy
+     * @since 3.1.1
+     */
+    public static @NotNull SubscriberCachePolicy evictOnUnsubscribe() {
+        return EVICT_ON_UNSUBSCRIBE;
+    }
+
+    /**
+     * Returns a policy which keeps the Listeners of unsubscribed subscribers until the garbage collector needs the
+     * memory. The Listeners are softly referenced, rather than the subscriber being weakly referenced, since bound
+     * Listeners typically reference their subscriber, which would otherwise prevent it from ever being collected.
+     *
+     * @return The policy
+     * @since 3.1.1
+     */
+    public static @NotNull SubscriberCachePolicy soft() {
+        return SOFT;
+    }
+
+    /**
+     * Returns a policy which keeps the Listeners of up to the specified number of unsubscribed subscribers, discarding
+     * those of the least recently unsubscribed or resubscribed subscriber first.
+     *
+     * @param maximumSize The maximum number of unsubscribed subscribers to keep
+     * @return The policy
+     * @throws IllegalArgumentException If the maximum size is negative
+     * @since 3.1.1
+     */
+    public static @NotNull SubscriberCachePolicy lru(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative");
+        }
+        return new SubscriberCachePolicy(Kind.LRU, maximumSize);
+    }
+
+    enum Kind {
+        RETAIN,
+        EVICT,
+        SOFT,
+        LRU
+    }
+}
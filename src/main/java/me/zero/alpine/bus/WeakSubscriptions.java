@@ -0,0 +1,93 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscriber;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Tracks the {@link Listener}s of weakly subscribed {@link Subscriber}s, and finds the Listeners of subscribers which
+ * have been garbage collected, so that they can be removed from the bus.
+ *
+ * @author Brady
+ * @see EventBus#subscribeWeak(Subscriber)
+ * @since 3.1.1
+ */
+final class WeakSubscriptions {
+
+    /**
+     * The subscription of each weakly subscribed instance. Weak keys are used so that this map doesn't keep the
+     * subscribers reachable, and each subscription stays reachable until it is either removed or enqueued.
+     */
+    private final Map<Subscriber, Subscription> subscriptions;
+    private final ReferenceQueue<Subscriber> collected;
+
+    WeakSubscriptions() {
+        this.subscriptions = new WeakHashMap<>();
+        this.collected = new ReferenceQueue<>();
+    }
+
+    /**
+     * Binds the Listeners of the specified subscriber with a weak reference to it, and calls the action with each of
+     * them, unless it is already weakly subscribed.
+     */
+    synchronized void subscribe(Subscriber subscriber, Function<WeakReference<Subscriber>, List<Listener<?>>> binder,
+                                Consumer<Listener<?>> action) {
+        if (this.subscriptions.containsKey(subscriber)) {
+            return;
+        }
+        final Subscription subscription = new Subscription(subscriber, this.collected);
+        subscription.listeners = binder.apply(subscription);
+        subscription.listeners.forEach(action);
+        this.subscriptions.put(subscriber, subscription);
+    }
+
+    /**
+     * Removes the subscription of the specified subscriber, and returns its Listeners, or an empty list if it wasn't
+     * weakly subscribed.
+     */
+    synchronized List<Listener<?>> unsubscribe(Subscriber subscriber) {
+        final Subscription subscription = this.subscriptions.remove(subscriber);
+        if (subscription == null) {
+            return Collections.emptyList();
+        }
+        // Clearing the reference prevents it from also being enqueued if the subscriber is collected
+        subscription.clear();
+        return subscription.listeners;
+    }
+
+    /**
+     * Returns the Listeners of each subscriber which has been garbage collected since the previous call, without
+     * waiting for a collection. The subscriptions of collected subscribers are removed from the weak map by the map
+     * itself.
+     */
+    synchronized List<Listener<?>> expungeCollected() {
+        Subscription subscription = (Subscription) this.collected.poll();
+        if (subscription == null) {
+            return Collections.emptyList();
+        }
+        final List<Listener<?>> listeners = new ArrayList<>();
+        do {
+            listeners.addAll(subscription.listeners);
+        } while ((subscription = (Subscription) this.collected.poll()) != null);
+        return listeners;
+    }
+
+    private static final class Subscription extends WeakReference<Subscriber> {
+
+        List<Listener<?>> listeners;
+
+        Subscription(Subscriber subscriber, ReferenceQueue<Subscriber> queue) {
+            super(subscriber, queue);
+            this.listeners = Collections.emptyList();
+        }
+    }
+}
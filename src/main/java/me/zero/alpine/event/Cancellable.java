@@ -1,11 +1,15 @@
 package me.zero.alpine.event;
 
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventBusBuilder;
 import me.zero.alpine.listener.Listener;
 
 /**
  * A type of event that can be cancelled. The exact effect of cancelling an event is dependent on how it is handled
- * in the call-site itself. Cancelling an event will not prevent it from being passed to its subscribed
- * {@link Listener}s.
+ * in the call-site itself. By default, cancelling an event will not prevent it from being passed to its subscribed
+ * {@link Listener}s. If the {@link EventBus} was built with {@link EventBusBuilder#setSkipCancelled()}, then once an
+ * event is cancelled, it is only passed to the remaining {@link Listener}s which
+ * {@link Listener#isReceiveCancelled() receive cancelled events}.
  *
  * @author Brady
  * @see CancellableEvent
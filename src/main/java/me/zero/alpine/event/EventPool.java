@@ -0,0 +1,247 @@
+package me.zero.alpine.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A pool of reusable {@link PooledEvent} instances. Each thread has its own pool, so borrowing and returning an event
+ * never contends with other threads, and doesn't allocate once the pool of the thread has been filled. If more
+ * instances are borrowed at once than the capacity of the pool, such as by posts of the same event type which are
+ * nested more deeply than the capacity, then the additional instances are created as needed and discarded when they
+ * are returned.
+ * <p>
+ * If debugging is enabled with {@link #setDebug}, returned events are never reused. Instead, each returned event is
+ * tracked until the next garbage collection, after which any event that is still reachable must have been retained past
+ * its dispatch, and is passed to the debug handler. The check relies on the garbage collector, so retained events are
+ * only reported once a collection has occurred, and an event which has been promoted to an older generation while it
+ * was being dispatched may be reported incorrectly. Reports are delivered by whichever later call to {@link #release}
+ * finds them, on any thread and for any pool, which is usually not the post that retained the event. The handler
+ * therefore only reports the event, and an exception thrown by the handler is logged rather than thrown from
+ * {@link #release}. Debugging may also be enabled at startup by setting the {@code alpine.pooledEvents.debug} system
+ * property to {@code true}, which is equivalent to calling {@link #setDebug(boolean) setDebug(true)}.
+ *
+ * @param <T> The event type
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class EventPool<T extends PooledEvent> {
+
+    /**
+     * The default number of instances kept by the pool of each thread.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private static final ClassValue<EventPool<?>> SHARED_POOLS = new ClassValue<EventPool<?>>() {
+        @Override
+        protected EventPool<?> computeValue(Class<?> type) {
+            return new EventPool<>(constructorFactory(type.asSubclass(PooledEvent.class)));
+        }
+    };
+
+    private static final Logger LOGGER = Logger.getLogger(EventPool.class.getName());
+
+    private static volatile Consumer<? super PooledEvent> debugHandler = Boolean.getBoolean("alpine.pooledEvents.debug")
+        ? EventPool::logRetained
+        : null;
+
+    /**
+     * Events which were returned while debugging was enabled, in the order they were returned.
+     */
+    private static final ConcurrentLinkedQueue<Released> RELEASED = new ConcurrentLinkedQueue<>();
+
+    private final Supplier<? extends T> factory;
+    private final ThreadLocal<Stack<T>> stacks;
+
+    /**
+     * Creates a new {@link EventPool} with the {@link #DEFAULT_CAPACITY default capacity}.
+     *
+     * @param factory The factory which creates new instances
+     */
+    public EventPool(@NotNull Supplier<? extends T> factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link EventPool}.
+     *
+     * @param factory  The factory which creates new instances
+     * @param capacity The maximum number of instances kept by the pool of each thread
+     * @throws IllegalArgumentException If the capacity is negative
+     */
+    public EventPool(@NotNull Supplier<? extends T> factory, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.factory = Objects.requireNonNull(factory);
+        this.stacks = ThreadLocal.withInitial(() -> new Stack<>(capacity));
+    }
+
+    /**
+     * Borrows an event from the pool of the current thread, creating a new one if the pool is empty. The event must be
+     * returned with {@link #release} by the same thread once it is no longer in use.
+     *
+     * @return The event
+     */
+    public @NotNull T acquire() {
+        final T event = this.stacks.get().pop();
+        return event != null ? event : Objects.requireNonNull(this.factory.get());
+    }
+
+    /**
+     * {@link PooledEvent#reset() Resets} the specified event and returns it to the pool of the current thread. The
+     * event must not be used by the caller after this call.
+     *
+     * @param event The event
+     */
+    public void release(@NotNull T event) {
+        event.reset();
+        final Consumer<? super PooledEvent> debugHandler = EventPool.debugHandler;
+        if (debugHandler != null) {
+            track(event, debugHandler);
+            return;
+        }
+        this.stacks.get().push(event);
+    }
+
+    /**
+     * Returns the pool shared by all callers for the specified event type, which creates new instances with the
+     * no-argument constructor of the type.
+     *
+     * @param type The event type
+     * @param <T>  The event type
+     * @return The shared pool
+     * @throws IllegalArgumentException If the type has no no-argument constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends PooledEvent> @NotNull EventPool<T> of(@NotNull Class<T> type) {
+        return (EventPool<T>) SHARED_POOLS.get(type);
+    }
+
+    /**
+     * Enables or disables debugging for all pools. While debugging is enabled, events that are retained after being
+     * returned to their pool are passed to the specified handler, as described in the {@link EventPool class
+     * documentation}.
+     *
+     * @param handler The handler of retained events, or {@code null} to disable debugging
+     */
+    public static void setDebug(@Nullable Consumer<? super PooledEvent> handler) {
+        debugHandler = handler;
+        if (handler == null) {
+            RELEASED.clear();
+        }
+    }
+
+    /**
+     * Enables or disables debugging for all pools. While debugging is enabled, each event that is retained after being
+     * returned to its pool is logged as a warning to the {@code me.zero.alpine.event.EventPool} logger of
+     * {@code java.util.logging}, as described in the {@link EventPool class documentation}.
+     *
+     * @param enabled Whether debugging is enabled
+     */
+    public static void setDebug(boolean enabled) {
+        setDebug(enabled ? EventPool::logRetained : null);
+    }
+
+    /**
+     * Returns {@code true} if debugging is enabled.
+     */
+    public static boolean isDebug() {
+        return debugHandler != null;
+    }
+
+    private static void track(PooledEvent event, Consumer<? super PooledEvent> handler) {
+        RELEASED.add(new Released(event, handler));
+
+        // Entries are checked in the order they were returned, until reaching one that hasn't seen a collection yet
+        Released head;
+        while ((head = RELEASED.peek()) != null && head.sentinel.get() == null) {
+            if (RELEASED.remove(head)) {
+                final PooledEvent retained = head.get();
+                if (retained != null) {
+                    // The caller of release is unrelated to the retained event, so the handler must not fail it
+                    try {
+                        head.handler.accept(retained);
+                    } catch (Throwable t) {
+                        LOGGER.log(Level.WARNING, "The debug handler of EventPool threw an exception", t);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void logRetained(PooledEvent event) {
+        LOGGER.warning("A pooled event was retained after being returned to its pool" +
+            "\n\tEvent: " + event +
+            "\n\tType:  " + event.getClass()
+        );
+    }
+
+    private static <T extends PooledEvent> Supplier<T> constructorFactory(Class<T> type) {
+        final Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (ReflectiveOperationException | SecurityException e) {
+            throw new IllegalArgumentException("Pooled event " + type.getName() + " has no no-argument constructor", e);
+        }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create pooled event " + type.getName(), e);
+            }
+        };
+    }
+
+    private static final class Stack<T> {
+
+        private final Object[] elements;
+        private int size;
+
+        Stack(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        T pop() {
+            if (this.size == 0) {
+                return null;
+            }
+            final T element = (T) this.elements[--this.size];
+            this.elements[this.size] = null;
+            return element;
+        }
+
+        void push(T element) {
+            if (this.size < this.elements.length) {
+                this.elements[this.size++] = element;
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a returned event, paired with a weak reference to an object which is only reachable from
+     * this entry. Once the sentinel has been cleared, a collection has occurred since the event was returned, so the
+     * event will also have been cleared unless something still refers to it.
+     */
+    private static final class Released extends WeakReference<PooledEvent> {
+
+        final WeakReference<Object> sentinel;
+        final Consumer<? super PooledEvent> handler;
+
+        Released(PooledEvent event, Consumer<? super PooledEvent> handler) {
+            super(event);
+            this.sentinel = new WeakReference<>(new Object());
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package me.zero.alpine.event;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.concurrent.KeyedListenerList;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A type of event which exposes a key, such as the id of the entity that it concerns. {@link Listener}s which are
+ * created with {@link Listener#keyed} only receive events whose key is equal to their own, and are indexed by their
+ * key, so that posting an event only calls the Listeners with a matching key, followed or preceded by any Listeners
+ * without a key, in order of priority.
+ *
+ * @author Brady
+ * @see KeyedListenerList
+ * @since 3.1.1
+ */
+public interface KeyedEvent {
+
+    /**
+     * Returns the key of this event, which is compared to the key of each keyed {@link Listener} using
+     * {@link Object#equals}. The key must not change while the event is being posted.
+     *
+     * @return The key, or {@code null} if only Listeners without a key should receive this event
+     */
+    @Nullable Object getKey();
+}
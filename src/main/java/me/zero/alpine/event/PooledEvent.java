@@ -0,0 +1,23 @@
+package me.zero.alpine.event;
+
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.listener.Listener;
+
+/**
+ * A type of event whose instances are reused by an {@link EventPool}, rather than being allocated for every post.
+ * Pooled events are posted with {@link EventBus#postPooled}, which borrows an instance from the pool, initializes and
+ * posts it, and then returns it to the pool. Since the same instance is posted again later, {@link Listener}s must
+ * not retain a pooled event, or any state of it which is cleared by {@link #reset()}, once they have returned.
+ *
+ * @author Brady
+ * @see EventPool#setDebug
+ * @since 3.1.1
+ */
+public interface PooledEvent {
+
+    /**
+     * Resets the state of this event, so that it can be initialized and posted again. Called by the {@link EventPool}
+     * each time the event is returned to it.
+     */
+    void reset();
+}
@@ -1,7 +1,10 @@
 package me.zero.alpine.event.dispatch;
 
+import me.zero.alpine.event.Cancellable;
 import me.zero.alpine.listener.Listener;
 import me.zero.alpine.listener.ListenerExceptionHandler;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.util.Util;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
@@ -28,6 +31,38 @@ public interface EventDispatcher {
      */
     <T> void dispatch(@NotNull T event, @NotNull Iterator<Listener<T>> listeners);
 
+    /**
+     * Dispatches the specified event to the first {@code length} Listeners in the specified array via
+     * {@link Listener#accept}. Unlike {@link #dispatch(Object, Iterator)}, this requires no iterator to be allocated,
+     * and is used by all the built-in {@link ListenerList} implementations. The default implementation is equivalent
+     * to dispatching to an iterator over the same range, so that implementations which don't override this method
+     * behave as they would for any other {@link Iterator}.
+     *
+     * @param event     The event
+     * @param listeners The listeners to dispatch the event to, which must not be modified during dispatch
+     * @param length    The number of listeners, starting from index {@code 0}, to dispatch the event to
+     * @param <T>       The event type
+     * @since 3.1.1
+     */
+    default <T> void dispatch(@NotNull T event, @NotNull Listener<T>[] listeners, int length) {
+        this.dispatch(event, Util.arrayIterator(listeners, length));
+    }
+
+    /**
+     * Dispatches the specified event to all Listeners of the specified {@link ListenerInvoker}. The default
+     * implementation is equivalent to dispatching to the array returned by {@link ListenerInvoker#getListeners()}, so
+     * that implementations which don't override this method behave as they would for any other array.
+     *
+     * @param event   The event
+     * @param invoker The invoker of the listeners to dispatch the event to
+     * @param <T>     The event type
+     * @since 3.1.1
+     */
+    default <T> void dispatch(@NotNull T event, @NotNull ListenerInvoker<T> invoker) {
+        final Listener<T>[] listeners = invoker.getListeners();
+        this.dispatch(event, listeners, listeners.length);
+    }
+
     /**
      * Returns an optimized implementation of {@link EventDispatcher} which has no exception handling.
      *
@@ -38,6 +73,19 @@ public interface EventDispatcher {
         return FastEventDispatcher.INSTANCE;
     }
 
+    /**
+     * Returns an optimized implementation of {@link EventDispatcher} which has no exception handling. If
+     * {@code skipCancelled} is {@code true}, then {@link Cancellable} events are only dispatched to the Listeners which
+     * {@link Listener#isReceiveCancelled() receive cancelled events} once they have been cancelled.
+     *
+     * @param skipCancelled Whether cancelled events are skipped
+     * @return The dispatcher
+     * @since 3.1.1
+     */
+    static @NotNull EventDispatcher fastEventDispatcher(boolean skipCancelled) {
+        return skipCancelled ? FastEventDispatcher.SKIP_CANCELLED : FastEventDispatcher.INSTANCE;
+    }
+
     /**
      * Returns a new {@link EventDispatcher} which invokes the specified {@link ListenerExceptionHandler} when a
      * Listener callback throws an exception. When an exception is thrown, regardless of the exception handler's
@@ -49,7 +97,22 @@ public interface EventDispatcher {
      * @since 3.0.0
      */
     static @NotNull EventDispatcher withExceptionHandler(@NotNull ListenerExceptionHandler exceptionHandler) {
-        return new ExceptionHandlingDispatcher(Objects.requireNonNull(exceptionHandler));
+        return withExceptionHandler(exceptionHandler, false);
+    }
+
+    /**
+     * Returns a new {@link EventDispatcher} which invokes the specified {@link ListenerExceptionHandler} when a
+     * Listener callback throws an exception, in the same way as {@link #withExceptionHandler(ListenerExceptionHandler)}.
+     * If {@code skipCancelled} is {@code true}, then {@link Cancellable} events are only dispatched to the Listeners
+     * which {@link Listener#isReceiveCancelled() receive cancelled events} once they have been cancelled.
+     *
+     * @param exceptionHandler The exception handler
+     * @param skipCancelled    Whether cancelled events are skipped
+     * @return The dispatcher
+     * @since 3.1.1
+     */
+    static @NotNull EventDispatcher withExceptionHandler(@NotNull ListenerExceptionHandler exceptionHandler, boolean skipCancelled) {
+        return new ExceptionHandlingDispatcher(Objects.requireNonNull(exceptionHandler), skipCancelled);
     }
 }
 
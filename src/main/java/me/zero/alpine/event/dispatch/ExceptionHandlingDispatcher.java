@@ -1,7 +1,9 @@
 package me.zero.alpine.event.dispatch;
 
+import me.zero.alpine.event.Cancellable;
 import me.zero.alpine.listener.Listener;
 import me.zero.alpine.listener.ListenerExceptionHandler;
+import me.zero.alpine.util.Util;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
@@ -13,17 +15,23 @@ import java.util.Iterator;
 final class ExceptionHandlingDispatcher implements EventDispatcher {
 
     private final ListenerExceptionHandler exceptionHandler;
+    private final boolean skipCancelled;
 
-    public ExceptionHandlingDispatcher(ListenerExceptionHandler exceptionHandler) {
+    public ExceptionHandlingDispatcher(ListenerExceptionHandler exceptionHandler, boolean skipCancelled) {
         this.exceptionHandler = exceptionHandler;
+        this.skipCancelled = skipCancelled;
     }
 
     @Override
     public <T> void dispatch(final @NotNull T event, final @NotNull Iterator<Listener<T>> listeners) {
+        final Cancellable cancellable = this.asCancellable(event);
         Listener<T> last = null;
         try {
             while (listeners.hasNext()) {
-                (last = listeners.next()).accept(event);
+                last = listeners.next();
+                if (cancellable == null || last.isReceiveCancelled() || !cancellable.isCancelled()) {
+                    last.accept(event);
+                }
             }
         } catch (Throwable cause) {
             if (this.exceptionHandler.handleException(event, last, cause)) {
@@ -31,4 +39,46 @@ final class ExceptionHandlingDispatcher implements EventDispatcher {
             }
         }
     }
+
+    @Override
+    public <T> void dispatch(final @NotNull T event, final @NotNull Listener<T>[] listeners, final int length) {
+        final Cancellable cancellable = this.asCancellable(event);
+        int i = 0;
+        try {
+            for (; i < length; i++) {
+                final Listener<T> listener = listeners[i];
+                if (cancellable == null || listener.isReceiveCancelled() || !cancellable.isCancelled()) {
+                    listener.accept(event);
+                }
+            }
+        } catch (Throwable cause) {
+            if (this.exceptionHandler.handleException(event, listeners[i], cause)) {
+                throw cause;
+            }
+        }
+    }
+
+    @Override
+    public <T> void dispatch(final @NotNull T event, final @NotNull ListenerInvoker<T> invoker) {
+        final Cancellable cancellable = this.asCancellable(event);
+        try {
+            if (cancellable == null) {
+                invoker.invoke(event);
+            } else {
+                invoker.invoke(event, cancellable);
+            }
+        } catch (ListenerInvoker.Failure failure) {
+            final Throwable cause = failure.getCause();
+            if (this.exceptionHandler.handleException(event, failure.getListener(), cause)) {
+                throw Util.sneakyThrow(cause);
+            }
+        }
+    }
+
+    /**
+     * Returns the event as a {@link Cancellable} if cancelled events are skipped, otherwise {@code null}.
+     */
+    private Cancellable asCancellable(Object event) {
+        return this.skipCancelled && event instanceof Cancellable ? (Cancellable) event : null;
+    }
 }
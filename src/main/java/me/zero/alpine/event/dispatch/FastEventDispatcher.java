@@ -1,6 +1,8 @@
 package me.zero.alpine.event.dispatch;
 
+import me.zero.alpine.event.Cancellable;
 import me.zero.alpine.listener.Listener;
+import me.zero.alpine.util.Util;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
@@ -10,12 +12,72 @@ import java.util.Iterator;
  * @since 3.0.0
  */
 enum FastEventDispatcher implements EventDispatcher {
-    INSTANCE;
+    INSTANCE {
+        @Override
+        public <T> void dispatch(final @NotNull T event, final @NotNull Iterator<Listener<T>> listeners) {
+            while (listeners.hasNext()) {
+                listeners.next().accept(event);
+            }
+        }
+
+        @Override
+        public <T> void dispatch(final @NotNull T event, final @NotNull Listener<T>[] listeners, final int length) {
+            for (int i = 0; i < length; i++) {
+                listeners[i].accept(event);
+            }
+        }
+
+        @Override
+        public <T> void dispatch(final @NotNull T event, final @NotNull ListenerInvoker<T> invoker) {
+            try {
+                invoker.invoke(event);
+            } catch (ListenerInvoker.Failure failure) {
+                throw Util.sneakyThrow(failure.getCause());
+            }
+        }
+    },
+    SKIP_CANCELLED {
+        @Override
+        public <T> void dispatch(final @NotNull T event, final @NotNull Iterator<Listener<T>> listeners) {
+            if (!(event instanceof Cancellable)) {
+                INSTANCE.dispatch(event, listeners);
+                return;
+            }
+            final Cancellable cancellable = (Cancellable) event;
+            while (listeners.hasNext()) {
+                final Listener<T> listener = listeners.next();
+                if (listener.isReceiveCancelled() || !cancellable.isCancelled()) {
+                    listener.accept(event);
+                }
+            }
+        }
+
+        @Override
+        public <T> void dispatch(final @NotNull T event, final @NotNull Listener<T>[] listeners, final int length) {
+            if (!(event instanceof Cancellable)) {
+                INSTANCE.dispatch(event, listeners, length);
+                return;
+            }
+            final Cancellable cancellable = (Cancellable) event;
+            for (int i = 0; i < length; i++) {
+                final Listener<T> listener = listeners[i];
+                if (listener.isReceiveCancelled() || !cancellable.isCancelled()) {
+                    listener.accept(event);
+                }
+            }
+        }
 
-    @Override
-    public <T> void dispatch(final @NotNull T event, final @NotNull Iterator<Listener<T>> listeners) {
-        while (listeners.hasNext()) {
-            listeners.next().accept(event);
+        @Override
+        public <T> void dispatch(final @NotNull T event, final @NotNull ListenerInvoker<T> invoker) {
+            if (!(event instanceof Cancellable)) {
+                INSTANCE.dispatch(event, invoker);
+                return;
+            }
+            try {
+                invoker.invoke(event, (Cancellable) event);
+            } catch (ListenerInvoker.Failure failure) {
+                throw Util.sneakyThrow(failure.getCause());
+            }
         }
     }
 }
@@ -0,0 +1,169 @@
+package me.zero.alpine.event.dispatch;
+
+import me.zero.alpine.event.Cancellable;
+import me.zero.alpine.listener.Listener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A precompiled invocation of a fixed array of Listeners. Instances are created by {@link #compile}, which chains a
+ * {@link java.lang.invoke.MethodHandle MethodHandle} bound to each Listener's {@link Listener#getCallback() callback}.
+ * Since every callback is a constant of the chain, the JIT is able to inline the Listener bodies into the invoker,
+ * instead of sharing a single megamorphic call-site between all event types.
+ * <p>
+ * Invokers are dispatched with {@link EventDispatcher#dispatch(Object, ListenerInvoker)}, which determines how any
+ * exceptions thrown by a Listener are handled.
+ *
+ * @param <T> The event type
+ * @author Brady
+ * @since 3.1.1
+ */
+public abstract class ListenerInvoker<T> {
+
+    /**
+     * The maximum number of Listeners that will be chained into a compiled invoker. Larger arrays fall back to a loop,
+     * since the JIT won't inline a chain beyond a certain size.
+     */
+    static final int MAX_UNROLLED_LISTENERS = 128;
+
+    private final Listener<T>[] listeners;
+
+    protected ListenerInvoker(@NotNull Listener<T>[] listeners) {
+        this.listeners = Objects.requireNonNull(listeners);
+    }
+
+    /**
+     * Invokes every Listener of this invoker, in order, with the specified event. If a Listener throws an exception,
+     * then the remaining Listeners are not invoked, and an exception wrapping the original is thrown. The wrapper is
+     * internal, and is always unwrapped by the {@link EventDispatcher}.
+     *
+     * @param event The event
+     */
+    public abstract void invoke(@NotNull T event);
+
+    /**
+     * Invokes the Listeners of this invoker in the same way as {@link #invoke(Object)}, except that once the specified
+     * {@link Cancellable} has been cancelled, only Listeners which {@link Listener#isReceiveCancelled() receive
+     * cancelled events} are invoked. The cancelled state is checked before each Listener, as it may be changed by any
+     * of the preceding Listeners.
+     *
+     * @param event       The event
+     * @param cancellable The cancellable view of the event, usually the event itself
+     */
+    public abstract void invoke(@NotNull T event, @NotNull Cancellable cancellable);
+
+    /**
+     * Returns {@code true} if this invoker was compiled by {@link #compile}, or {@code false} if it is an
+     * interpreted invoker, which loops over its Listeners.
+     */
+    public boolean isCompiled() {
+        return true;
+    }
+
+    /**
+     * Returns the array of Listeners invoked by this invoker. The returned array must not be modified.
+     */
+    public final @NotNull Listener<T>[] getListeners() {
+        return this.listeners;
+    }
+
+    /**
+     * Creates the exception to be thrown when the Listener at the specified index throws.
+     */
+    protected final RuntimeException failed(int index, Throwable cause) {
+        return new Failure(this.listeners[index], cause);
+    }
+
+    /**
+     * Returns an invoker for the specified array of Listeners, chaining a method handle bound to each of their
+     * callbacks. If the array is too large to be chained, an {@link #interpret interpreted} invoker is returned
+     * instead.
+     *
+     * @param listeners The listeners, which must not be modified after this call
+     * @param <T>       The event type
+     * @return The invoker
+     */
+    public static <T> @NotNull ListenerInvoker<T> compile(@NotNull Listener<T>[] listeners) {
+        if (listeners.length == 0 || listeners.length > MAX_UNROLLED_LISTENERS) {
+            return interpret(listeners);
+        }
+        return new MethodHandleInvoker<>(listeners);
+    }
+
+    /**
+     * Returns an invoker for the specified array of Listeners which loops over their callbacks. This is cheap to
+     * create, and is used in place of a compiled invoker until one is required.
+     *
+     * @param listeners The listeners, which must not be modified after this call
+     * @param <T>       The event type
+     * @return The invoker
+     */
+    public static <T> @NotNull ListenerInvoker<T> interpret(@NotNull Listener<T>[] listeners) {
+        return new Interpreted<>(listeners);
+    }
+
+    private static final class Interpreted<T> extends ListenerInvoker<T> {
+
+        Interpreted(Listener<T>[] listeners) {
+            super(listeners);
+        }
+
+        @Override
+        public void invoke(@NotNull T event) {
+            final Listener<T>[] listeners = this.getListeners();
+            int i = 0;
+            try {
+                for (; i < listeners.length; i++) {
+                    listeners[i].accept(event);
+                }
+            } catch (Throwable cause) {
+                throw this.failed(i, cause);
+            }
+        }
+
+        @Override
+        public void invoke(@NotNull T event, @NotNull Cancellable cancellable) {
+            final Listener<T>[] listeners = this.getListeners();
+            int i = 0;
+            try {
+                for (; i < listeners.length; i++) {
+                    final Listener<T> listener = listeners[i];
+                    if (listener.isReceiveCancelled() || !cancellable.isCancelled()) {
+                        listener.accept(event);
+                    }
+                }
+            } catch (Throwable cause) {
+                throw this.failed(i, cause);
+            }
+        }
+
+        @Override
+        public boolean isCompiled() {
+            return false;
+        }
+    }
+
+    /**
+     * Thrown by {@link #invoke} when a Listener throws an exception. Unwrapped by the {@link EventDispatcher} before
+     * the exception is handled or propagated.
+     */
+    static final class Failure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        // Failures never outlive the dispatch which catches them, so they're never serialized
+        private final transient Listener<?> listener;
+
+        Failure(Listener<?> listener, Throwable cause) {
+            // The stack trace of the cause is the only meaningful one, so don't bother filling one in
+            super(null, cause, false, false);
+            this.listener = listener;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> Listener<T> getListener() {
+            return (Listener<T>) this.listener;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package me.zero.alpine.event.dispatch;
+
+import me.zero.alpine.event.Cancellable;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Consumer;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * A {@link ListenerInvoker} which calls each Listener callback through a chain of {@link MethodHandle}s. Every
+ * Listener gets a handle to {@link Consumer#accept} bound to its callback, so the JIT sees the callback as a constant
+ * and is able to inline it, rather than sharing a single megamorphic call-site between all event types. The chain is
+ * equivalent to the following, unrolled for every Listener:
+ * <pre>
+ * try {
+ *     c0.accept(event);
+ * } catch (Throwable cause) {
+ *     throw new Failure(l0, cause);
+ * }
+ * try {
+ *     c1.accept(event);
+ * } catch (Throwable cause) {
+ *     throw new Failure(l1, cause);
+ * }
+ * ...
+ * </pre>
+ * The chain used for a {@link Cancellable} additionally guards each call with {@code if (!cancellable.isCancelled())},
+ * omitted for Listeners which receive cancelled events. Handles are combined as a balanced tree, so that the depth of
+ * the chain grows logarithmically with the number of Listeners, and stays within the JIT's inlining depth.
+ * <p>
+ * The handles are held by final fields and never change, so no classes are defined per invoker. On Java 9 and newer,
+ * a handle which is invoked often enough is customized to its bound values, giving each invoker its own compiled form.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+final class MethodHandleInvoker<T> extends ListenerInvoker<T> {
+
+    private static final MethodHandle ACCEPT;
+    private static final MethodHandle IS_CANCELLED;
+    private static final MethodHandle SKIP;
+    private static final MethodHandle FAIL;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            ACCEPT = lookup.findVirtual(Consumer.class, "accept", methodType(void.class, Object.class));
+            IS_CANCELLED = lookup.findVirtual(Cancellable.class, "isCancelled", methodType(boolean.class));
+            SKIP = lookup.findStatic(MethodHandleInvoker.class, "skip",
+                methodType(void.class, Object.class, Cancellable.class));
+            FAIL = lookup.findStatic(MethodHandleInvoker.class, "fail",
+                methodType(void.class, Listener.class, Throwable.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * {@code (Object)void}
+     */
+    private final MethodHandle invoker;
+
+    /**
+     * {@code (Object, Cancellable)void}
+     */
+    private final MethodHandle cancellableInvoker;
+
+    MethodHandleInvoker(@NotNull Listener<T>[] listeners) {
+        super(listeners);
+        final MethodHandle[] calls = new MethodHandle[listeners.length];
+        final MethodHandle[] cancellableCalls = new MethodHandle[listeners.length];
+        for (int i = 0; i < listeners.length; i++) {
+            final Listener<T> listener = listeners[i];
+            final MethodHandle call = ACCEPT.bindTo(listener.getCallback());
+            MethodHandle cancellableCall = MethodHandles.dropArguments(call, 1, Cancellable.class);
+            if (!listener.isReceiveCancelled()) {
+                cancellableCall = MethodHandles.guardWithTest(
+                    MethodHandles.dropArguments(IS_CANCELLED, 0, Object.class),
+                    SKIP,
+                    cancellableCall
+                );
+            }
+            // The handler may omit the trailing arguments of the call
+            final MethodHandle fail = FAIL.bindTo(listener);
+            calls[i] = MethodHandles.catchException(call, Throwable.class, fail);
+            cancellableCalls[i] = MethodHandles.catchException(cancellableCall, Throwable.class, fail);
+        }
+        this.invoker = sequence(calls, 0, calls.length);
+        this.cancellableInvoker = sequence(cancellableCalls, 0, cancellableCalls.length);
+    }
+
+    @Override
+    public void invoke(@NotNull T event) {
+        try {
+            this.invoker.invokeExact((Object) event);
+        } catch (Throwable t) {
+            // Always a Failure, since every call is wrapped by a handler
+            throw Util.sneakyThrow(t);
+        }
+    }
+
+    @Override
+    public void invoke(@NotNull T event, @NotNull Cancellable cancellable) {
+        try {
+            this.cancellableInvoker.invokeExact((Object) event, cancellable);
+        } catch (Throwable t) {
+            throw Util.sneakyThrow(t);
+        }
+    }
+
+    /**
+     * Combines the handles in the specified range into one which calls each of them in order, splitting the range in
+     * half at each level.
+     */
+    private static MethodHandle sequence(MethodHandle[] handles, int from, int to) {
+        if (to - from == 1) {
+            return handles[from];
+        }
+        final int mid = (from + to) >>> 1;
+        // The combiner returns void, so the target receives the same arguments after it
+        return MethodHandles.foldArguments(sequence(handles, mid, to), sequence(handles, from, mid));
+    }
+
+    @SuppressWarnings("unused")
+    private static void skip(Object event, Cancellable cancellable) {}
+
+    @SuppressWarnings("unused")
+    private static void fail(Listener<?> listener, Throwable cause) {
+        throw new Failure(listener, cause);
+    }
+}
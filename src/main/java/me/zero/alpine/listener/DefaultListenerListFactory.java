@@ -1,6 +1,11 @@
 package me.zero.alpine.listener;
 
+import me.zero.alpine.event.KeyedEvent;
+import me.zero.alpine.listener.concurrent.BucketedListenerList;
+import me.zero.alpine.listener.concurrent.CompiledListenerList;
 import me.zero.alpine.listener.concurrent.CopyOnWriteListenerList;
+import me.zero.alpine.listener.concurrent.KeyedListenerList;
+import me.zero.alpine.listener.concurrent.LockFreeListenerList;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -8,10 +13,31 @@ import org.jetbrains.annotations.NotNull;
  * @since 3.0.0
  */
 enum DefaultListenerListFactory implements ListenerListFactory {
-    INSTANCE;
-
-    @Override
-    public @NotNull <T> ListenerList<T> create(Class<T> eventType) {
-        return new CopyOnWriteListenerList<>();
+    INSTANCE {
+        @Override
+        public @NotNull <T> ListenerList<T> create(Class<T> eventType) {
+            if (KeyedEvent.class.isAssignableFrom(eventType)) {
+                return new KeyedListenerList<>();
+            }
+            return new CopyOnWriteListenerList<>();
+        }
+    },
+    COMPILED {
+        @Override
+        public @NotNull <T> ListenerList<T> create(Class<T> eventType) {
+            return new CompiledListenerList<>();
+        }
+    },
+    BUCKETED {
+        @Override
+        public @NotNull <T> ListenerList<T> create(Class<T> eventType) {
+            return new BucketedListenerList<>();
+        }
+    },
+    LOCK_FREE {
+        @Override
+        public @NotNull <T> ListenerList<T> create(Class<T> eventType) {
+            return new LockFreeListenerList<>();
+        }
     }
 }
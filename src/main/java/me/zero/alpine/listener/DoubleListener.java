@@ -0,0 +1,86 @@
+package me.zero.alpine.listener;
+
+import it.unimi.dsi.fastutil.doubles.DoubleConsumer;
+import it.unimi.dsi.fastutil.doubles.DoublePredicate;
+import me.zero.alpine.bus.DoubleEventChannel;
+import me.zero.alpine.event.EventPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A listener for {@code double} values, which are received from a {@link DoubleEventChannel} without being boxed.
+ * Despite the name, it isn't a {@link Listener}, but it can be viewed as one through {@link #asListener()}.
+ *
+ * @author Brady
+ * @see DoubleEventChannel
+ * @since 3.1.1
+ */
+public final class DoubleListener extends PrimitiveListener<DoubleListener> implements DoubleConsumer {
+
+    /**
+     * The body of this {@link DoubleListener}, called when all filters, if any, pass.
+     */
+    private final DoubleConsumer callback;
+
+    /**
+     * The boxed view of this {@link DoubleListener}.
+     */
+    private final Listener<Double> boxed;
+
+    public DoubleListener(@NotNull DoubleConsumer callback) {
+        this(callback, EventPriority.DEFAULT);
+    }
+
+    public DoubleListener(@NotNull DoubleConsumer callback, @NotNull DoublePredicate... filters) {
+        this(callback, EventPriority.DEFAULT, filters);
+    }
+
+    /**
+     * Creates a new {@link DoubleListener} instance.
+     *
+     * @param callback The value callback function.
+     * @param priority The priority value. See {@link EventPriority}.
+     * @param filters  Checks used to validate the value before the {@code callback} is invoked.
+     */
+    public DoubleListener(@NotNull DoubleConsumer callback, int priority, @NotNull DoublePredicate... filters) {
+        super(priority);
+        Objects.requireNonNull(callback);
+        this.callback = filters.length == 0 ? callback : value -> {
+            for (DoublePredicate filter : filters) {
+                if (!filter.test(value)) {
+                    return;
+                }
+            }
+            callback.accept(value);
+        };
+        // A final field, so that any thread posting to a channel of this listener may report it to a handler
+        final DoubleConsumer body = this.callback;
+        this.boxed = new Listener<>(Double.class, value -> body.accept(value.doubleValue()), priority);
+    }
+
+    /**
+     * Returns the body of this {@link DoubleListener}, with any filters already applied.
+     *
+     * @return The callback of this {@link DoubleListener}
+     */
+    public @NotNull DoubleConsumer getCallback() {
+        return this.callback;
+    }
+
+    /**
+     * Called when a value is posted. Passes the value to this {@link DoubleListener}'s body function if it passes all
+     * of this {@link DoubleListener}'s filters.
+     *
+     * @param value Value being posted
+     */
+    @Override
+    public void accept(double value) {
+        this.callback.accept(value);
+    }
+
+    @Override
+    public @NotNull Listener<Double> asListener() {
+        return this.boxed;
+    }
+}
@@ -0,0 +1,86 @@
+package me.zero.alpine.listener;
+
+import it.unimi.dsi.fastutil.ints.IntConsumer;
+import it.unimi.dsi.fastutil.ints.IntPredicate;
+import me.zero.alpine.bus.IntEventChannel;
+import me.zero.alpine.event.EventPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A listener for {@code int} values, which are received from an {@link IntEventChannel} without being boxed.
+ * Despite the name, it isn't a {@link Listener}, but it can be viewed as one through {@link #asListener()}.
+ *
+ * @author Brady
+ * @see IntEventChannel
+ * @since 3.1.1
+ */
+public final class IntListener extends PrimitiveListener<IntListener> implements IntConsumer {
+
+    /**
+     * The body of this {@link IntListener}, called when all filters, if any, pass.
+     */
+    private final IntConsumer callback;
+
+    /**
+     * The boxed view of this {@link IntListener}.
+     */
+    private final Listener<Integer> boxed;
+
+    public IntListener(@NotNull IntConsumer callback) {
+        this(callback, EventPriority.DEFAULT);
+    }
+
+    public IntListener(@NotNull IntConsumer callback, @NotNull IntPredicate... filters) {
+        this(callback, EventPriority.DEFAULT, filters);
+    }
+
+    /**
+     * Creates a new {@link IntListener} instance.
+     *
+     * @param callback The value callback function.
+     * @param priority The priority value. See {@link EventPriority}.
+     * @param filters  Checks used to validate the value before the {@code callback} is invoked.
+     */
+    public IntListener(@NotNull IntConsumer callback, int priority, @NotNull IntPredicate... filters) {
+        super(priority);
+        Objects.requireNonNull(callback);
+        this.callback = filters.length == 0 ? callback : value -> {
+            for (IntPredicate filter : filters) {
+                if (!filter.test(value)) {
+                    return;
+                }
+            }
+            callback.accept(value);
+        };
+        // A final field, so that any thread posting to a channel of this listener may report it to a handler
+        final IntConsumer body = this.callback;
+        this.boxed = new Listener<>(Integer.class, value -> body.accept(value.intValue()), priority);
+    }
+
+    /**
+     * Returns the body of this {@link IntListener}, with any filters already applied.
+     *
+     * @return The callback of this {@link IntListener}
+     */
+    public @NotNull IntConsumer getCallback() {
+        return this.callback;
+    }
+
+    /**
+     * Called when a value is posted. Passes the value to this {@link IntListener}'s body function if it passes all
+     * of this {@link IntListener}'s filters.
+     *
+     * @param value Value being posted
+     */
+    @Override
+    public void accept(int value) {
+        this.callback.accept(value);
+    }
+
+    @Override
+    public @NotNull Listener<Integer> asListener() {
+        return this.boxed;
+    }
+}
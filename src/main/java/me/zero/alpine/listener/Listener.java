@@ -1,10 +1,15 @@
 package me.zero.alpine.listener;
 
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventBusBuilder;
 import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.event.Cancellable;
 import me.zero.alpine.event.EventPriority;
 import me.zero.alpine.event.Events;
+import me.zero.alpine.event.KeyedEvent;
 import me.zero.alpine.exception.EventTypeException;
 import me.zero.alpine.exception.ListenerTargetException;
+import me.zero.alpine.listener.concurrent.KeyedListenerList;
 import me.zero.alpine.util.Util;
 import net.jodah.typetools.TypeResolver;
 import org.jetbrains.annotations.NotNull;
@@ -73,6 +78,21 @@ public final class Listener<@NotNull T> implements Consumer<T>, Comparable<Liste
      */
     private final int priority;
 
+    /**
+     * Whether this {@link Listener} receives events which have already been cancelled, when posted by an
+     * {@link EventBus} which skips cancelled events.
+     *
+     * @see EventBusBuilder#setSkipCancelled()
+     */
+    private final boolean receiveCancelled;
+
+    /**
+     * The key of the events received by this {@link Listener}, or {@code null} if it receives all events.
+     *
+     * @see KeyedEvent
+     */
+    private final Object key;
+
     public Listener(@NotNull Consumer<T> callback) {
         this(null, callback, emptyFilters());
     }
@@ -117,11 +137,44 @@ public final class Listener<@NotNull T> implements Consumer<T>, Comparable<Liste
      *                               target should be explicitly specified.
      * @throws IllegalStateException If the event target can't be automatically resolved from the callback
      */
-    @SuppressWarnings("unchecked")
     @SafeVarargs
     public Listener(@Nullable Class<T> target, @NotNull Consumer<T> callback, int priority, @NotNull Predicate<? super T>... filters) {
-        this.callback = Util.predicated(callback, filters);
+        this(target, callback, priority, false, filters);
+    }
+
+    /**
+     * Creates a new {@link Listener} instance.
+     *
+     * @param target           The target event type. If {@code null}, an attempt will be made to automatically resolve
+     *                         the target.
+     * @param callback         The event callback function.
+     * @param priority         The priority value. See {@link EventPriority}.
+     * @param receiveCancelled Whether cancelled events should still be received when posted by an {@link EventBus}
+     *                         which skips cancelled events. See {@link EventBusBuilder#setSkipCancelled()}.
+     * @param filters          Checks used to validate the event object before the {@code callback} is invoked.
+     * @throws EventTypeException    If the event target isn't a {@link Events#validateEventType(Type) valid event type}.
+     * @throws IllegalStateException If the event target can't be automatically resolved from the callback
+     * @since 3.1.1
+     */
+    @SafeVarargs
+    public Listener(@Nullable Class<T> target, @NotNull Consumer<T> callback, int priority, boolean receiveCancelled, @NotNull Predicate<? super T>... filters) {
+        this(target, null, callback, priority, receiveCancelled, filters);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings({"unchecked", "varargs"})
+    private Listener(@Nullable Class<T> target, @Nullable Object key, @NotNull Consumer<T> callback, int priority,
+                     boolean receiveCancelled, @NotNull Predicate<? super T>... filters) {
+        final Consumer<T> filtered = Util.predicated(callback, filters);
+        // The key is checked by the callback as well, so that lists which don't index Listeners by key are still correct
+        this.callback = key == null ? filtered : event -> {
+            if (key.equals(((KeyedEvent) event).getKey())) {
+                filtered.accept(event);
+            }
+        };
         this.priority = priority;
+        this.receiveCancelled = receiveCancelled;
+        this.key = key;
         if (target != null) {
             this.target = target;
         } else {
@@ -133,6 +186,48 @@ public final class Listener<@NotNull T> implements Consumer<T>, Comparable<Liste
         }
     }
 
+    /**
+     * Creates a new {@link Listener} which only receives events whose {@link KeyedEvent#getKey() key} is equal to the
+     * specified key, with the default priority.
+     *
+     * @param target   The target event type
+     * @param key      The key of the events to receive
+     * @param callback The event callback function
+     * @param <T>      The event type
+     * @return The new Listener
+     * @see #keyed(Class, Object, Consumer, int, Predicate[])
+     * @since 3.1.1
+     */
+    public static <T extends KeyedEvent> @NotNull Listener<T> keyed(@NotNull Class<T> target, @NotNull Object key,
+                                                                    @NotNull Consumer<T> callback) {
+        return keyed(target, key, callback, EventPriority.DEFAULT);
+    }
+
+    /**
+     * Creates a new {@link Listener} which only receives events whose {@link KeyedEvent#getKey() key} is equal to the
+     * specified key. When posted through a {@link KeyedListenerList}, which is used
+     * for {@link KeyedEvent} types by the {@link ListenerListFactory#defaultFactory() default factory}, keyed Listeners
+     * are found through a hash index rather than being tested one by one, so posting an event only calls the Listeners
+     * of its key. Other lists call every keyed Listener, which then tests the key like any other filter.
+     *
+     * @param target   The target event type
+     * @param key      The key of the events to receive
+     * @param callback The event callback function
+     * @param priority The priority value. See {@link EventPriority}.
+     * @param filters  Checks used to validate the event object before the {@code callback} is invoked
+     * @param <T>      The event type
+     * @return The new Listener
+     * @since 3.1.1
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T extends KeyedEvent> @NotNull Listener<T> keyed(@NotNull Class<T> target, @NotNull Object key,
+                                                                    @NotNull Consumer<T> callback, int priority,
+                                                                    @NotNull Predicate<? super T>... filters) {
+        return new Listener<>(Objects.requireNonNull(target), Objects.requireNonNull(key), callback, priority, false,
+            filters);
+    }
+
     /**
      * Sets the target event type of this {@link Listener}. Used by {@link EventManager} to correct the target type
      * by resolving directly from the field's type parameter, preventing the need to explicitly specify the target
@@ -169,6 +264,51 @@ public final class Listener<@NotNull T> implements Consumer<T>, Comparable<Liste
         return this.priority;
     }
 
+    /**
+     * Returns whether this {@link Listener} receives events which have already been cancelled, when posted by an
+     * {@link EventBus} which skips cancelled events. Events which aren't {@link Cancellable} are always received.
+     *
+     * @return {@code true} if cancelled events are received
+     * @see EventBusBuilder#setSkipCancelled()
+     */
+    public boolean isReceiveCancelled() {
+        return this.receiveCancelled;
+    }
+
+    /**
+     * Returns the key of the events received by this {@link Listener}, or {@code null} if it isn't keyed.
+     *
+     * @return The key of this {@link Listener}
+     * @see #keyed(Class, Object, Consumer, int, Predicate[])
+     * @since 3.1.1
+     */
+    public @Nullable Object getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns the body of this {@link Listener}, with any filters already applied. Invoking the returned callback is
+     * equivalent to calling {@link #accept}, but allows compiled dispatch code to call it directly.
+     *
+     * @return The callback of this {@link Listener}
+     */
+    public @NotNull Consumer<T> getCallback() {
+        return this.callback;
+    }
+
+    /**
+     * Creates a new {@link Listener} with the same target, priority, key and handling of cancelled events as this
+     * {@link Listener}, which passes events to the specified callback instead. The filters of this {@link Listener}
+     * aren't applied by the new one.
+     *
+     * @param callback The event callback function
+     * @return The new Listener
+     * @since 3.1.1
+     */
+    public @NotNull Listener<T> withCallback(@NotNull Consumer<T> callback) {
+        return new Listener<>(this.target, this.key, callback, this.priority, this.receiveCancelled, emptyFilters());
+    }
+
     /**
      * Called during the event posting sequence. Verifies that the event can be accepted by testing it against this
      * {@link Listener}'s filters, and if so, proceeds with passing the event to this {@link Listener}'s body function.
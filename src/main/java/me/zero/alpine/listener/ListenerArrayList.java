@@ -3,43 +3,85 @@ package me.zero.alpine.listener;
 import me.zero.alpine.event.dispatch.EventDispatcher;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 
 /**
- * An implementation of {@link ListenerList} which is backed by
+ * An implementation of {@link ListenerList} which is backed by a sorted array, grown as required. This implementation
+ * is not thread-safe, and the Listeners must not be modified while an event is being posted.
  *
  * @author Brady
  * @since 3.0.0
  */
 public final class ListenerArrayList<T> implements ListenerList<T> {
 
-    private final ArrayList<Listener<T>> backing;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Listener<T>[] listeners;
+    private int size;
 
     public ListenerArrayList() {
-        this.backing = new ArrayList<>();
+        this.listeners = newListenerArray(DEFAULT_CAPACITY);
     }
 
     @Override
     public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
-        dispatcher.dispatch(event, this.backing.iterator());
+        dispatcher.dispatch(event, this.listeners, this.size);
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        final Listener<T>[] listeners = this.listeners;
+        final int size = this.size;
+        for (int i = from; i < to; i++) {
+            dispatcher.dispatch(events[i], listeners, size);
+        }
     }
 
     @Override
     public boolean add(@NotNull Listener<T> listener) {
-        if (this.backing.contains(listener)) {
+        if (this.indexOf(listener) >= 0) {
             return false;
         }
-        int index = Collections.binarySearch(this.backing, listener);
+        int index = Arrays.binarySearch(this.listeners, 0, this.size, listener);
         if (index < 0) {
             index = -index - 1;
         }
-        this.backing.add(index, listener);
+        if (this.size == this.listeners.length) {
+            this.listeners = Arrays.copyOf(this.listeners, this.size + (this.size >> 1) + 1);
+        }
+        System.arraycopy(this.listeners, index, this.listeners, index + 1, this.size - index);
+        this.listeners[index] = listener;
+        this.size++;
         return true;
     }
 
     @Override
     public boolean remove(@NotNull Listener<T> listener) {
-        return this.backing.remove(listener);
+        final int index = this.indexOf(listener);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(this.listeners, index + 1, this.listeners, index, this.size - index - 1);
+        this.listeners[--this.size] = null;
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private int indexOf(Listener<T> listener) {
+        for (int i = 0; i < this.size; i++) {
+            if (listener.equals(this.listeners[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Listener<T>[] newListenerArray(int length) {
+        return (Listener<T>[]) new Listener<?>[length];
     }
 }
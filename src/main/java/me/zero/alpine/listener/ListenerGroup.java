@@ -1,5 +1,6 @@
 package me.zero.alpine.listener;
 
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import me.zero.alpine.bus.EventBusBuilder;
 import me.zero.alpine.event.dispatch.EventDispatcher;
 import org.jetbrains.annotations.NotNull;
@@ -7,111 +8,208 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.BiConsumer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A {@link ListenerList} which may have children {@link ListenerGroup} instances {@link #addChild added}, allowing
- * their listeners to be invoked non-recursively. This is used to create a structure of lists which mimicks the
- * flattened class hierarchy of an event class, and is utilized by the {@link EventBusBuilder#isSuperListeners()}
- * setting.
+ * their listeners to be invoked alongside the listeners of this group. This is used to create a structure of lists
+ * which mimicks the flattened class hierarchy of an event class, and is utilized by the
+ * {@link EventBusBuilder#isSuperListeners()} setting.
+ * <p>
+ * Rather than posting to each child in turn, the backing list of a group contains the listeners of the group itself
+ * merged with the listeners of all its children, ordered by priority across the entire hierarchy. Adding or removing a
+ * listener updates the backing list of its own group and of every group it is a child of, and adding a child copies
+ * the child's listeners into the backing list. Posting an event is therefore a single call to the backing list, and
+ * is made safe for concurrent posting threads by the backing list itself.
+ * <p>
+ * Modifications are guarded by a lock which is shared by every group linked to this one, directly or indirectly.
+ * Each group starts with a lock of its own, and linking two groups merges their locks, so groups which are never
+ * linked together, such as the groups of unrelated event types or of different buses, never contend.
  *
  * @author Brady
  * @since 3.0.0
  */
 public final class ListenerGroup<T> implements ListenerList<T> {
 
+    /**
+     * The listeners of this group, merged with the listeners of all children.
+     */
     private final ListenerList<T> backing;
-    private final List<ListenerGroup<? super T>> children;
-    private BiConsumer<T, EventDispatcher> distributor;
+
+    /**
+     * The listeners which were added directly to this group, by identity.
+     */
+    private final ReferenceLinkedOpenHashSet<Listener<T>> listeners;
+
+    /**
+     * The groups which this group is a child of, and whose backing lists must contain the listeners of this group.
+     */
+    private final List<ListenerGroup<? extends T>> parents;
+
+    /**
+     * The hierarchy of linked groups which this group belongs to. This may be a hierarchy which has since been merged
+     * into another, in which case it is updated the next time the lock is acquired.
+     */
+    private volatile Hierarchy hierarchy;
 
     public ListenerGroup(@NotNull ListenerList<T> backing) {
         this.backing = Objects.requireNonNull(backing);
-        this.children = new ArrayList<>();
-        this.distributor = this.createDistributor();
+        this.listeners = new ReferenceLinkedOpenHashSet<>();
+        this.parents = new ArrayList<>();
+        this.hierarchy = new Hierarchy();
     }
 
     @Override
     public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
-        this.distributor.accept(event, dispatcher);
+        this.backing.post(event, dispatcher);
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        this.backing.postAll(events, from, to, dispatcher);
     }
 
     @Override
     public boolean add(@NotNull Listener<T> listener) {
-        return this.backing.add(listener);
+        final Hierarchy hierarchy = this.lock();
+        try {
+            if (!this.listeners.add(listener)) {
+                return false;
+            }
+            this.backing.add(listener);
+            for (ListenerGroup<? extends T> parent : this.parents) {
+                parent.addInherited(listener);
+            }
+            return true;
+        } finally {
+            hierarchy.lock.unlock();
+        }
     }
 
     @Override
     public boolean remove(@NotNull Listener<T> listener) {
-        return this.backing.remove(listener);
+        final Hierarchy hierarchy = this.lock();
+        try {
+            if (!this.listeners.remove(listener)) {
+                return false;
+            }
+            this.backing.remove(listener);
+            for (ListenerGroup<? extends T> parent : this.parents) {
+                parent.removeInherited(listener);
+            }
+            return true;
+        } finally {
+            hierarchy.lock.unlock();
+        }
     }
 
-    private void post0(T event, EventDispatcher dispatcher) {
-        this.backing.post(event, dispatcher);
+    /**
+     * Returns {@code true} if neither this group nor any of its children have any {@link Listener}s.
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.backing.isEmpty();
     }
 
-    public void addChild(ListenerGroup<? super T> child) {
-        this.children.add(child);
-        this.distributor = this.createDistributor();
-    }
+    /**
+     * Adds a child group, whose listeners will receive the events posted to this group. If the groups don't already
+     * share a lock, the lock of the child's hierarchy is merged into the lock of this group's hierarchy. Children are
+     * not recursive, so the children of the child are not included unless they are also added to this group.
+     *
+     * @param child The child group
+     */
+    public void addChild(@NotNull ListenerGroup<? super T> child) {
+        for (;;) {
+            final Hierarchy a = this.hierarchy.resolve();
+            final Hierarchy b = child.hierarchy.resolve();
+            // Always acquire the older lock first, so that linking groups from both directions can't deadlock
+            final Hierarchy first = a.id <= b.id ? a : b;
+            final Hierarchy second = a.id <= b.id ? b : a;
+            first.lock.lock();
+            second.lock.lock();
+            try {
+                if (first.merged != null || second.merged != null) {
+                    // Another thread merged either hierarchy before the locks were acquired
+                    continue;
+                }
+                if (first != second) {
+                    second.merged = first;
+                }
+                this.hierarchy = first;
+                child.hierarchy = first;
 
-    private BiConsumer<T, EventDispatcher> createDistributor() {
-        switch (this.children.size()) {
-            case 0: {
-                return this::post0;
-            }
-            case 1: {
-                final ListenerGroup<? super T> g0 = this.children.get(0);
-                return (event, dispatcher) -> {
-                    this.post0(event, dispatcher);
-                    g0.post0(event, dispatcher);
-                };
-            }
-            case 2: {
-                final ListenerGroup<? super T> g0 = this.children.get(0), g1 = this.children.get(1);
-                return (event, dispatcher) -> {
-                    this.post0(event, dispatcher);
-                    g0.post0(event, dispatcher);
-                    g1.post0(event, dispatcher);
-                };
+                child.parents.add(this);
+                for (Listener<? super T> listener : child.listeners) {
+                    this.addInherited(listener);
+                }
+                return;
+            } finally {
+                second.lock.unlock();
+                first.lock.unlock();
             }
-            case 3: {
-                final ListenerGroup<? super T> g0 = this.children.get(0), g1 = this.children.get(1), g2 = this.children.get(2);
-                return (event, dispatcher) -> {
-                    this.post0(event, dispatcher);
-                    g0.post0(event, dispatcher);
-                    g1.post0(event, dispatcher);
-                    g2.post0(event, dispatcher);
-                };
-            }
-            case 4: {
-                final ListenerGroup<? super T> g0 = this.children.get(0), g1 = this.children.get(1), g2 = this.children.get(2), g3 = this.children.get(3);
-                return (event, dispatcher) -> {
-                    this.post0(event, dispatcher);
-                    g0.post0(event, dispatcher);
-                    g1.post0(event, dispatcher);
-                    g2.post0(event, dispatcher);
-                    g3.post0(event, dispatcher);
-                };
-            }
-            case 5: {
-                final ListenerGroup<? super T> g0 = this.children.get(0), g1 = this.children.get(1), g2 = this.children.get(2), g3 = this.children.get(3), g4 = this.children.get(4);
-                return (event, dispatcher) -> {
-                    this.post0(event, dispatcher);
-                    g0.post0(event, dispatcher);
-                    g1.post0(event, dispatcher);
-                    g2.post0(event, dispatcher);
-                    g3.post0(event, dispatcher);
-                    g4.post0(event, dispatcher);
-                };
+        }
+    }
+
+    /**
+     * Acquires the lock of this group's hierarchy, following any merges, and returns the hierarchy whose lock is held.
+     */
+    private Hierarchy lock() {
+        Hierarchy hierarchy = this.hierarchy;
+        for (;;) {
+            hierarchy.lock.lock();
+            final Hierarchy merged = hierarchy.merged;
+            if (merged == null) {
+                if (this.hierarchy != hierarchy) {
+                    this.hierarchy = hierarchy;
+                }
+                return hierarchy;
             }
-            default: {
-                return (event, dispatcher) -> {
-                    this.post0(event, dispatcher);
-                    for (ListenerGroup<? super T> child : this.children) {
-                        child.post0(event, dispatcher);
-                    }
-                };
+            hierarchy.lock.unlock();
+            hierarchy = merged;
+        }
+    }
+
+    // A listener of a supertype also accepts this type, although the type parameter can't express that
+    @SuppressWarnings("unchecked")
+    private void addInherited(Listener<? super T> listener) {
+        this.backing.add((Listener<T>) listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void removeInherited(Listener<? super T> listener) {
+        this.backing.remove((Listener<T>) listener);
+    }
+
+    /**
+     * The lock shared by a set of linked groups. When two hierarchies are linked, the newer one is marked as merged
+     * into the older one while both locks are held, and any thread which then acquires the lock of the newer one
+     * releases it and moves on to the older one.
+     */
+    private static final class Hierarchy {
+
+        private static final AtomicLong NEXT_ID = new AtomicLong();
+
+        final long id;
+        final ReentrantLock lock;
+        volatile Hierarchy merged;
+
+        Hierarchy() {
+            this.id = NEXT_ID.getAndIncrement();
+            this.lock = new ReentrantLock();
+        }
+
+        /**
+         * Returns the hierarchy which this hierarchy has been merged into, or this hierarchy if it hasn't been merged.
+         * The result must be checked again once its lock is held.
+         */
+        Hierarchy resolve() {
+            Hierarchy hierarchy = this;
+            Hierarchy merged;
+            while ((merged = hierarchy.merged) != null) {
+                hierarchy = merged;
             }
+            return hierarchy;
         }
     }
 }
@@ -2,10 +2,13 @@ package me.zero.alpine.listener;
 
 import me.zero.alpine.event.dispatch.EventDispatcher;
 import me.zero.alpine.listener.concurrent.ReadWriteLockListenerList;
+import me.zero.alpine.listener.concurrent.StampedLockListenerList;
 import me.zero.alpine.listener.concurrent.SynchronizedListenerList;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * A collection of {@link Listener} instances, ordered by {@link Listener#getPriority() priority}. Supports the minimal
@@ -27,6 +30,24 @@ public interface ListenerList<T> {
      */
     void post(@NotNull T event, @NotNull EventDispatcher dispatcher);
 
+    /**
+     * Posts each event in the specified range of the array, in order, to all the {@link Listener}s in this list.
+     * Implementations may acquire locks and take a snapshot of their Listeners once for the entire range, rather than
+     * once per event, so Listeners which are added or removed during the batch might not be reflected until the next
+     * call. The default implementation calls {@link #post} for each event.
+     *
+     * @param events     The events
+     * @param from       The index of the first event, inclusive
+     * @param to         The index of the last event, exclusive
+     * @param dispatcher The event dispatcher
+     * @since 3.1.1
+     */
+    default void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        for (int i = from; i < to; i++) {
+            this.post(events[i], dispatcher);
+        }
+    }
+
     /**
      * Adds the specified {@link Listener} to this list, if it is not already present.
      *
@@ -45,6 +66,34 @@ public interface ListenerList<T> {
      */
     boolean remove(@NotNull Listener<T> listener);
 
+    /**
+     * Removes each of the specified {@link Listener}s from this list, if they are present. Implementations which
+     * replace a snapshot of their Listeners on every modification may remove all of them with a single replacement.
+     * The default implementation calls {@link #remove} for each listener.
+     *
+     * @param listeners The listeners
+     * @return {@code true} if any listener was removed
+     * @since 3.1.1
+     */
+    default boolean removeAll(@NotNull Collection<? extends Listener<T>> listeners) {
+        boolean removed = false;
+        for (Listener<T> listener : listeners) {
+            removed |= this.remove(listener);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns {@code true} if posting an event to this list is guaranteed to have no effect, because it contains no
+     * {@link Listener}s. The default implementation conservatively returns {@code false}.
+     *
+     * @return {@code true} if this list has no listeners
+     * @since 3.1.1
+     */
+    default boolean isEmpty() {
+        return false;
+    }
+
     /**
      * Creates a new wrapper around the specified {@link ListenerList} which synchronizes all operations on
      * {@code this}, i.e. the wrapper object itself.
@@ -87,4 +136,22 @@ public interface ListenerList<T> {
     static <T> ListenerList<T> readWriteLock(@NotNull ListenerList<T> list) {
         return new ReadWriteLockListenerList<>(list);
     }
+
+    /**
+     * Creates a new wrapper around the specified {@link ListenerList} which synchronizes operations using a
+     * {@link StampedLock}. The write lock is acquired when {@link ListenerList#add} and {@link ListenerList#remove} are
+     * called, while {@link ListenerList#post} first attempts an optimistic read, and only acquires the read lock if a
+     * modification was in progress. Unlike {@link #readWriteLock}, posting threads don't contend with each other, so
+     * this should scale better when events of the same type are posted from many threads and listeners are rarely
+     * modified.
+     *
+     * @param list A listener list
+     * @param <T>  The event type
+     * @return A synchronized wrapper of {@code list}
+     * @see StampedLockListenerList
+     * @since 3.1.1
+     */
+    static <T> ListenerList<T> stampedLock(@NotNull ListenerList<T> list) {
+        return new StampedLockListenerList<>(list);
+    }
 }
@@ -3,7 +3,12 @@ package me.zero.alpine.listener;
 import me.zero.alpine.bus.EventBusBuilder;
 import me.zero.alpine.bus.EventManager;
 import me.zero.alpine.event.Events;
+import me.zero.alpine.event.KeyedEvent;
+import me.zero.alpine.listener.concurrent.BucketedListenerList;
+import me.zero.alpine.listener.concurrent.CompiledListenerList;
 import me.zero.alpine.listener.concurrent.CopyOnWriteListenerList;
+import me.zero.alpine.listener.concurrent.KeyedListenerList;
+import me.zero.alpine.listener.concurrent.LockFreeListenerList;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -18,7 +23,8 @@ public interface ListenerListFactory {
     /**
      * Creates a new {@link ListenerList} instance for the given event type. The implementation of this method is not
      * required to {@link Events#validateEventType validate} the specified event type, as that should be done by the
-     * caller.
+     * caller. {@link EventManager} only calls this method once for each event type, but may call it concurrently for
+     * different event types.
      *
      * @param eventType The event class
      * @param <T>       The event type
@@ -28,11 +34,50 @@ public interface ListenerListFactory {
 
     /**
      * Returns the default implementation of {@link ListenerListFactory} used by {@link EventBusBuilder}, which creates
-     * a new instance of {@link CopyOnWriteListenerList} upon each {@link ListenerListFactory#create} invocation.
+     * a new instance of {@link CopyOnWriteListenerList} upon each {@link ListenerListFactory#create} invocation, or of
+     * {@link KeyedListenerList} for {@link KeyedEvent} types.
      *
      * @return The default factory
      */
     static @NotNull ListenerListFactory defaultFactory() {
         return DefaultListenerListFactory.INSTANCE;
     }
+
+    /**
+     * Returns an implementation of {@link ListenerListFactory} which creates a new instance of
+     * {@link CompiledListenerList} upon each {@link ListenerListFactory#create} invocation. This trades additional
+     * work upon modification of each list for faster dispatch, which is most noticeable for event types with many
+     * listeners that are posted frequently.
+     *
+     * @return The compiled factory
+     * @since 3.1.1
+     */
+    static @NotNull ListenerListFactory compiled() {
+        return DefaultListenerListFactory.COMPILED;
+    }
+
+    /**
+     * Returns an implementation of {@link ListenerListFactory} which creates a new instance of
+     * {@link BucketedListenerList} upon each {@link ListenerListFactory#create} invocation. This makes adding and
+     * removing listeners independent of the number of listeners, which is most noticeable for event types with many
+     * listeners that are frequently subscribed and unsubscribed.
+     *
+     * @return The bucketed factory
+     * @since 3.1.1
+     */
+    static @NotNull ListenerListFactory bucketed() {
+        return DefaultListenerListFactory.BUCKETED;
+    }
+
+    /**
+     * Returns an implementation of {@link ListenerListFactory} which creates a new instance of
+     * {@link LockFreeListenerList} upon each {@link ListenerListFactory#create} invocation. This behaves like the
+     * default factory, but without blocking when listeners are subscribed and unsubscribed from many threads at once.
+     *
+     * @return The lock-free factory
+     * @since 3.1.1
+     */
+    static @NotNull ListenerListFactory lockFree() {
+        return DefaultListenerListFactory.LOCK_FREE;
+    }
 }
@@ -0,0 +1,86 @@
+package me.zero.alpine.listener;
+
+import it.unimi.dsi.fastutil.longs.LongConsumer;
+import it.unimi.dsi.fastutil.longs.LongPredicate;
+import me.zero.alpine.bus.LongEventChannel;
+import me.zero.alpine.event.EventPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A listener for {@code long} values, which are received from a {@link LongEventChannel} without being boxed.
+ * Despite the name, it isn't a {@link Listener}, but it can be viewed as one through {@link #asListener()}.
+ *
+ * @author Brady
+ * @see LongEventChannel
+ * @since 3.1.1
+ */
+public final class LongListener extends PrimitiveListener<LongListener> implements LongConsumer {
+
+    /**
+     * The body of this {@link LongListener}, called when all filters, if any, pass.
+     */
+    private final LongConsumer callback;
+
+    /**
+     * The boxed view of this {@link LongListener}.
+     */
+    private final Listener<Long> boxed;
+
+    public LongListener(@NotNull LongConsumer callback) {
+        this(callback, EventPriority.DEFAULT);
+    }
+
+    public LongListener(@NotNull LongConsumer callback, @NotNull LongPredicate... filters) {
+        this(callback, EventPriority.DEFAULT, filters);
+    }
+
+    /**
+     * Creates a new {@link LongListener} instance.
+     *
+     * @param callback The value callback function.
+     * @param priority The priority value. See {@link EventPriority}.
+     * @param filters  Checks used to validate the value before the {@code callback} is invoked.
+     */
+    public LongListener(@NotNull LongConsumer callback, int priority, @NotNull LongPredicate... filters) {
+        super(priority);
+        Objects.requireNonNull(callback);
+        this.callback = filters.length == 0 ? callback : value -> {
+            for (LongPredicate filter : filters) {
+                if (!filter.test(value)) {
+                    return;
+                }
+            }
+            callback.accept(value);
+        };
+        // A final field, so that any thread posting to a channel of this listener may report it to a handler
+        final LongConsumer body = this.callback;
+        this.boxed = new Listener<>(Long.class, value -> body.accept(value.longValue()), priority);
+    }
+
+    /**
+     * Returns the body of this {@link LongListener}, with any filters already applied.
+     *
+     * @return The callback of this {@link LongListener}
+     */
+    public @NotNull LongConsumer getCallback() {
+        return this.callback;
+    }
+
+    /**
+     * Called when a value is posted. Passes the value to this {@link LongListener}'s body function if it passes all
+     * of this {@link LongListener}'s filters.
+     *
+     * @param value Value being posted
+     */
+    @Override
+    public void accept(long value) {
+        this.callback.accept(value);
+    }
+
+    @Override
+    public @NotNull Listener<Long> asListener() {
+        return this.boxed;
+    }
+}
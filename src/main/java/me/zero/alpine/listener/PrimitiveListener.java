@@ -0,0 +1,55 @@
+package me.zero.alpine.listener;
+
+import me.zero.alpine.event.EventPriority;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * The base of the listeners which receive primitive values without boxing them, holding the priority which orders
+ * them within their channel. These listeners aren't {@link Listener}s, but each one has a boxed view which is.
+ *
+ * @param <L> The type of the listener
+ * @author Brady
+ * @see IntListener
+ * @see LongListener
+ * @see DoubleListener
+ * @since 3.1.1
+ */
+abstract class PrimitiveListener<L extends PrimitiveListener<L>> implements Comparable<L> {
+
+    /**
+     * Priority of this listener.
+     *
+     * @see EventPriority
+     */
+    private final int priority;
+
+    PrimitiveListener(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the priority of this listener. See {@link EventPriority} for a description of this value.
+     *
+     * @return The priority of this listener
+     * @see EventPriority
+     */
+    public int getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Returns a {@link Listener} which accepts boxed values and passes them to this listener. Only used to report an
+     * exception thrown by this listener to a {@link ListenerExceptionHandler}, which expects a {@link Listener}.
+     *
+     * @return The boxed view of this listener
+     */
+    public abstract @NotNull Listener<?> asListener();
+
+    @Override
+    public int compareTo(@NotNull L o) {
+        // Listeners with higher priorities should come first, so negate the compare result
+        return -Integer.compare(this.getPriority(), Objects.requireNonNull(o).getPriority());
+    }
+}
@@ -1,6 +1,7 @@
 package me.zero.alpine.listener;
 
 import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventBusBuilder;
 import me.zero.alpine.event.EventPriority;
 import me.zero.alpine.listener.discovery.ListenerDiscoveryStrategy;
 
@@ -62,4 +63,15 @@ public @interface Subscribe {
      * @return The filters for the listener
      */
     Class<? extends Predicate<?>>[] filters() default {};
+
+    /**
+     * Returns whether the callback method targeted by this annotation receives events which have already been
+     * cancelled, when posted by an {@link EventBus} which skips cancelled events. Specifying a value for this field
+     * yields no effect for {@link Listener} fields.
+     *
+     * @return Whether the listener receives cancelled events
+     * @see EventBusBuilder#setSkipCancelled()
+     * @since 3.1.1
+     */
+    boolean receiveCancelled() default false;
 }
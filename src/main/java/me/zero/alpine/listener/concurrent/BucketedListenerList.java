@@ -0,0 +1,169 @@
+package me.zero.alpine.listener.concurrent;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ListenerList} which stores Listeners in buckets of equal priority, for event types with many Listeners
+ * which are frequently added and removed. Each bucket is an identity hash set which preserves insertion order, so
+ * adding or removing a Listener only takes a binary search over the distinct priorities, followed by a constant time
+ * hash set operation, rather than the linear search and array copy of {@link CopyOnWriteListenerList}.
+ * <p>
+ * A dense array of all Listeners is cached for posting, and is only rebuilt by the first post after a modification,
+ * so any number of modifications between two posts cost a single rebuild.
+ * Listeners of equal priority are called in the order that they were added. Posting is safe from any number of threads
+ * concurrently with modifications, which are synchronized. As with {@link CopyOnWriteListenerList}, a post which is
+ * in progress may still call a Listener that has been removed.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class BucketedListenerList<T> implements ListenerList<T> {
+
+    private static final Bucket<?>[] EMPTY_BUCKETS = new Bucket<?>[0];
+
+    /**
+     * The buckets of each distinct priority, in order of descending priority.
+     */
+    private Bucket<T>[] buckets;
+    private volatile int size;
+
+    /**
+     * All Listeners in dispatch order, or {@code null} if a modification has been made since it was last built.
+     */
+    private volatile Listener<T>[] listeners;
+    private final Object lock;
+
+    @SuppressWarnings("unchecked")
+    public BucketedListenerList() {
+        this.buckets = (Bucket<T>[]) EMPTY_BUCKETS;
+        this.listeners = emptyListenerArray();
+        this.lock = new Object();
+    }
+
+    @Override
+    public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
+        final Listener<T>[] listeners = this.listeners();
+        dispatcher.dispatch(event, listeners, listeners.length);
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        final Listener<T>[] listeners = this.listeners();
+        for (int i = from; i < to; i++) {
+            dispatcher.dispatch(events[i], listeners, listeners.length);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean add(@NotNull Listener<T> listener) {
+        synchronized (this.lock) {
+            final int priority = listener.getPriority();
+            int index = this.indexOf(priority);
+            if (index < 0) {
+                index = -index - 1;
+                this.buckets = Util.arrayInsert(this.buckets, index, new Bucket<>(priority));
+            }
+            if (!this.buckets[index].listeners.add(listener)) {
+                return false;
+            }
+            this.size++;
+            this.listeners = null;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(@NotNull Listener<T> listener) {
+        synchronized (this.lock) {
+            final int index = this.indexOf(listener.getPriority());
+            if (index < 0) {
+                return false;
+            }
+            final Bucket<T> bucket = this.buckets[index];
+            if (!bucket.listeners.remove(listener)) {
+                return false;
+            }
+            if (bucket.listeners.isEmpty()) {
+                this.buckets = Util.arrayRemove(this.buckets, index);
+            }
+            this.size--;
+            this.listeners = null;
+            return true;
+        }
+    }
+
+    private Listener<T>[] listeners() {
+        final Listener<T>[] listeners = this.listeners;
+        return listeners != null ? listeners : this.rebuild();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Listener<T>[] rebuild() {
+        synchronized (this.lock) {
+            // Another thread may have rebuilt the array while this thread was waiting for the lock
+            Listener<T>[] listeners = this.listeners;
+            if (listeners == null) {
+                listeners = (Listener<T>[]) new Listener<?>[this.size];
+                int i = 0;
+                for (Bucket<T> bucket : this.buckets) {
+                    for (Listener<T> listener : bucket.listeners) {
+                        listeners[i++] = listener;
+                    }
+                }
+                this.listeners = listeners;
+            }
+            return listeners;
+        }
+    }
+
+    /**
+     * Returns the index of the bucket with the specified priority, or {@code (-(insertion point) - 1)} if there is
+     * none, in the same way as {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    private int indexOf(int priority) {
+        final Bucket<T>[] buckets = this.buckets;
+        int low = 0;
+        int high = buckets.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midPriority = buckets[mid].priority;
+            // Buckets are in descending order
+            if (midPriority > priority) {
+                low = mid + 1;
+            } else if (midPriority < priority) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static final Listener<?>[] EMPTY_LISTENERS = new Listener<?>[0];
+
+    @SuppressWarnings("unchecked")
+    private static <T> Listener<T>[] emptyListenerArray() {
+        return (Listener<T>[]) EMPTY_LISTENERS;
+    }
+
+    private static final class Bucket<T> {
+
+        final int priority;
+        final ReferenceLinkedOpenHashSet<Listener<T>> listeners;
+
+        Bucket(int priority) {
+            this.priority = priority;
+            this.listeners = new ReferenceLinkedOpenHashSet<>();
+        }
+    }
+}
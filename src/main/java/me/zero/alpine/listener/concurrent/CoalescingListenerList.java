@@ -0,0 +1,165 @@
+package me.zero.alpine.listener.concurrent;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventBusBuilder;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A wrapper implementation of {@link ListenerList} which coalesces posted events, rather than dispatching them
+ * immediately. Each posted event replaces the pending event with the same key, and the latest pending events are only
+ * dispatched to the backing list by {@link #drain}. This is intended for state updates which may be posted much more
+ * frequently than their Listeners need to observe them, such as a cursor position, where only the latest value
+ * matters.
+ * <p>
+ * Without a key extractor, a single event is pending at a time. With a key extractor, one event is pending for each
+ * distinct key, and pending events are drained in the order that their keys were first posted since the previous
+ * drain. Since posting doesn't call any Listeners, the cancelled state of a coalesced event can't be observed by the
+ * poster.
+ *
+ * @author Brady
+ * @see EventBusBuilder#setCoalesced
+ * @see EventBus#drainCoalesced()
+ * @since 3.1.1
+ */
+public final class CoalescingListenerList<T> implements ListenerList<T> {
+
+    /**
+     * Stands in for {@code null} keys, so that the absence of a pending event can be distinguished from an event with
+     * a {@code null} key.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    private final ListenerList<T> backing;
+    private final Function<? super T, ?> keyExtractor;
+
+    /**
+     * The pending event, if there is no key extractor.
+     */
+    private final AtomicReference<T> latest;
+
+    /**
+     * The pending event of each key, if there is a key extractor. Swapped with {@link #draining} on each drain, so
+     * that posting may continue while the drained events are dispatched.
+     */
+    private Object2ObjectLinkedOpenHashMap<Object, T> pending;
+    private Object2ObjectLinkedOpenHashMap<Object, T> draining;
+    private final Object lock;
+    private final Object drainLock;
+
+    /**
+     * Creates a new {@link CoalescingListenerList} which keeps a single pending event.
+     *
+     * @param backing The list which pending events are dispatched to
+     */
+    public CoalescingListenerList(@NotNull ListenerList<T> backing) {
+        this(backing, null);
+    }
+
+    /**
+     * Creates a new {@link CoalescingListenerList}.
+     *
+     * @param backing      The list which pending events are dispatched to
+     * @param keyExtractor The function which returns the key of an event, or {@code null} to keep a single pending
+     *                     event
+     */
+    public CoalescingListenerList(@NotNull ListenerList<T> backing, @Nullable Function<? super T, ?> keyExtractor) {
+        this.backing = Objects.requireNonNull(backing);
+        this.keyExtractor = keyExtractor;
+        this.latest = new AtomicReference<>();
+        this.pending = new Object2ObjectLinkedOpenHashMap<>();
+        this.draining = new Object2ObjectLinkedOpenHashMap<>();
+        this.lock = new Object();
+        this.drainLock = new Object();
+    }
+
+    /**
+     * Replaces the pending event with the same key as the specified event. The dispatcher is not used until the event
+     * is {@link #drain drained}.
+     */
+    @Override
+    public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
+        if (this.keyExtractor == null) {
+            this.latest.set(event);
+            return;
+        }
+        final Object key = this.keyExtractor.apply(event);
+        synchronized (this.lock) {
+            this.pending.put(key != null ? key : NULL_KEY, event);
+        }
+    }
+
+    /**
+     * Dispatches each pending event to the backing list, and clears the pending events. Events which are posted while
+     * draining are kept pending until the next drain. If a Listener exception is propagated, the remaining events of
+     * this drain are discarded.
+     *
+     * @param dispatcher The event dispatcher
+     * @return The number of events which were dispatched
+     */
+    public int drain(@NotNull EventDispatcher dispatcher) {
+        if (this.keyExtractor == null) {
+            final T event = this.latest.getAndSet(null);
+            if (event == null) {
+                return 0;
+            }
+            this.backing.post(event, dispatcher);
+            return 1;
+        }
+
+        synchronized (this.drainLock) {
+            final Object2ObjectLinkedOpenHashMap<Object, T> drained;
+            synchronized (this.lock) {
+                if (this.pending.isEmpty()) {
+                    return 0;
+                }
+                drained = this.pending;
+                this.pending = this.draining;
+                this.draining = drained;
+            }
+            try {
+                for (T event : drained.values()) {
+                    this.backing.post(event, dispatcher);
+                }
+                return drained.size();
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if any events are waiting to be {@link #drain drained}.
+     */
+    public boolean hasPending() {
+        if (this.keyExtractor == null) {
+            return this.latest.get() != null;
+        }
+        synchronized (this.lock) {
+            return !this.pending.isEmpty();
+        }
+    }
+
+    @Override
+    public boolean add(@NotNull Listener<T> listener) {
+        return this.backing.add(listener);
+    }
+
+    @Override
+    public boolean remove(@NotNull Listener<T> listener) {
+        return this.backing.remove(listener);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.backing.isEmpty();
+    }
+}
@@ -0,0 +1,183 @@
+package me.zero.alpine.listener.concurrent;
+
+import me.zero.alpine.event.Cancellable;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.event.dispatch.ListenerInvoker;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ListenerList} which dispatches events through a {@link ListenerInvoker#compile compiled}
+ * {@link ListenerInvoker}, which chains a method handle bound to each Listener's callback. Like
+ * {@link CopyOnWriteListenerList}, modifications replace the array of Listeners, which has the same caveats regarding
+ * cleanup after unsubscribing.
+ * <p>
+ * Building the chain costs far more than a post, so it is never done by a posting thread. Instead, the first
+ * {@link #post} following any number of modifications schedules the invoker to be compiled by a background thread
+ * after {@link #COMPILE_DELAY_MILLIS}, and events are dispatched by an interpreted invoker until it is ready. If the
+ * list is modified again before then, the scheduled compile is abandoned, so that subscribing many Listeners at once,
+ * or continuous subscribe churn, doesn't compile an invoker for every intermediate array.
+ *
+ * @author Brady
+ * @see ListenerListFactory#compiled()
+ * @since 3.1.1
+ */
+public final class CompiledListenerList<T> implements ListenerList<T> {
+
+    /**
+     * The time, in milliseconds, between the first post following a modification and the compile of the invoker.
+     */
+    public static final long COMPILE_DELAY_MILLIS = 50L;
+
+    private volatile ListenerInvoker<T> invoker;
+    private final Object lock;
+
+    public CompiledListenerList() {
+        this.invoker = new Pending<>(emptyListenerArray());
+        this.lock = new Object();
+    }
+
+    @Override
+    public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
+        final ListenerInvoker<T> invoker = this.invoker;
+        if (invoker instanceof Pending) {
+            this.scheduleCompile((Pending<T>) invoker);
+        }
+        dispatcher.dispatch(event, invoker);
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        final ListenerInvoker<T> invoker = this.invoker;
+        if (invoker instanceof Pending) {
+            this.scheduleCompile((Pending<T>) invoker);
+        }
+        for (int i = from; i < to; i++) {
+            dispatcher.dispatch(events[i], invoker);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.invoker.getListeners().length == 0;
+    }
+
+    @Override
+    public boolean add(@NotNull Listener<T> listener) {
+        synchronized (this.lock) {
+            Listener<T>[] arr = this.invoker.getListeners();
+            if (Arrays.asList(arr).contains(listener)) {
+                return false;
+            }
+
+            int index = Arrays.binarySearch(arr, listener);
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            this.invoker = new Pending<>(Util.arrayInsert(arr, index, listener));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(@NotNull Listener<T> listener) {
+        synchronized (this.lock) {
+            Listener<T>[] arr = this.invoker.getListeners();
+            int index = Arrays.asList(arr).indexOf(listener);
+            if (index < 0) {
+                return false;
+            }
+
+            this.invoker = new Pending<>(Util.arrayRemove(arr, index));
+            return true;
+        }
+    }
+
+    private void scheduleCompile(Pending<T> pending) {
+        if (pending.scheduled.compareAndSet(false, true)) {
+            Compiler.EXECUTOR.schedule(() -> this.compile(pending), COMPILE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void compile(Pending<T> pending) {
+        // The list was modified since the compile was scheduled, the next post will schedule another
+        if (this.invoker != pending) {
+            return;
+        }
+        // Compile without holding the lock, so that neither posting nor subscribing waits for it
+        final ListenerInvoker<T> compiled = ListenerInvoker.compile(pending.getListeners());
+        synchronized (this.lock) {
+            if (this.invoker == pending) {
+                this.invoker = compiled;
+            }
+        }
+    }
+
+    private static final Listener<?>[] EMPTY_LISTENERS = new Listener<?>[0];
+
+    @SuppressWarnings("unchecked")
+    private static <T> Listener<T>[] emptyListenerArray() {
+        return (Listener<T>[]) EMPTY_LISTENERS;
+    }
+
+    /**
+     * Marks an interpreted invoker which hasn't been compiled yet. Once compiled, the invoker is never replaced until
+     * the next modification, even if {@link ListenerInvoker#compile} fell back to an interpreted invoker.
+     */
+    private static final class Pending<T> extends ListenerInvoker<T> {
+
+        private final ListenerInvoker<T> interpreted;
+        private final AtomicBoolean scheduled;
+
+        Pending(Listener<T>[] listeners) {
+            super(listeners);
+            this.interpreted = ListenerInvoker.interpret(listeners);
+            this.scheduled = new AtomicBoolean();
+        }
+
+        @Override
+        public void invoke(@NotNull T event) {
+            this.interpreted.invoke(event);
+        }
+
+        @Override
+        public void invoke(@NotNull T event, @NotNull Cancellable cancellable) {
+            this.interpreted.invoke(event, cancellable);
+        }
+
+        @Override
+        public boolean isCompiled() {
+            return false;
+        }
+    }
+
+    /**
+     * Holds the executor which compiles invokers, so that its thread isn't created until the first compile. The
+     * thread is a daemon, and exits after being idle for a while.
+     */
+    private static final class Compiler {
+
+        static final ScheduledThreadPoolExecutor EXECUTOR;
+
+        static {
+            final AtomicInteger id = new AtomicInteger();
+            EXECUTOR = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "Alpine-Listener-Compiler-" + id.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            EXECUTOR.setKeepAliveTime(1L, TimeUnit.SECONDS);
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        }
+    }
+}
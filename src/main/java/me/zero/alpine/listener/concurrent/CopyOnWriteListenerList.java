@@ -8,6 +8,10 @@ import me.zero.alpine.util.Util;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * A {@link ListenerList} which uses copy-on-write semantics to support thread safety. However, this may cause a race
@@ -23,13 +27,27 @@ public final class CopyOnWriteListenerList<T> implements ListenerList<T> {
     private final Object lock;
 
     public CopyOnWriteListenerList() {
-        this.listeners = newListenerArray(0);
+        this.listeners = emptyListenerArray();
         this.lock = new Object();
     }
 
     @Override
     public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
-        dispatcher.dispatch(event, Util.arrayIterator(this.listeners));
+        final Listener<T>[] listeners = this.listeners;
+        dispatcher.dispatch(event, listeners, listeners.length);
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        final Listener<T>[] listeners = this.listeners;
+        for (int i = from; i < to; i++) {
+            dispatcher.dispatch(events[i], listeners, listeners.length);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.listeners.length == 0;
     }
 
     @Override
@@ -46,12 +64,7 @@ public final class CopyOnWriteListenerList<T> implements ListenerList<T> {
                 index = -index - 1;
             }
 
-            int len = arr.length;
-            Listener<T>[] newArr = newListenerArray(len + 1);
-            System.arraycopy(arr, 0, newArr, 0, index);
-            System.arraycopy(arr, index, newArr, index + 1, len - index);
-            newArr[index] = listener;
-            this.listeners = newArr;
+            this.listeners = Util.arrayInsert(arr, index, listener);
             return true;
         }
     }
@@ -66,11 +79,31 @@ public final class CopyOnWriteListenerList<T> implements ListenerList<T> {
                 return false;
             }
 
-            int len = arr.length;
-            Listener<T>[] newArr = newListenerArray(len - 1);
-            System.arraycopy(arr, 0, newArr, 0, index);
-            System.arraycopy(arr, index + 1, newArr, index, len - index - 1);
-            this.listeners = newArr;
+            this.listeners = Util.arrayRemove(arr, index);
+            return true;
+        }
+    }
+
+    /**
+     * Removes all the specified Listeners with a single replacement of the Listeners array.
+     */
+    @Override
+    public boolean removeAll(@NotNull Collection<? extends Listener<T>> listeners) {
+        final Set<Listener<?>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(listeners);
+        synchronized (this.lock) {
+            final Listener<T>[] arr = this.listeners;
+            final Listener<T>[] kept = Arrays.copyOf(arr, arr.length);
+            int size = 0;
+            for (Listener<T> listener : arr) {
+                if (!removed.contains(listener)) {
+                    kept[size++] = listener;
+                }
+            }
+            if (size == arr.length) {
+                return false;
+            }
+            this.listeners = size == 0 ? emptyListenerArray() : Arrays.copyOf(kept, size);
             return true;
         }
     }
@@ -78,7 +111,7 @@ public final class CopyOnWriteListenerList<T> implements ListenerList<T> {
     private static final Listener<?>[] EMPTY_LISTENERS = new Listener<?>[0];
 
     @SuppressWarnings("unchecked")
-    private static <T> Listener<T>[] newListenerArray(int size) {
-        return (Listener<T>[]) (size == 0 ? EMPTY_LISTENERS : new Listener[size]);
+    private static <T> Listener<T>[] emptyListenerArray() {
+        return (Listener<T>[]) EMPTY_LISTENERS;
     }
 }
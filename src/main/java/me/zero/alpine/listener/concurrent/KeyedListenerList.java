@@ -0,0 +1,190 @@
+package me.zero.alpine.listener.concurrent;
+
+import me.zero.alpine.event.KeyedEvent;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ListenerList} which indexes {@link Listener#keyed keyed} Listeners by their key. Each key maps to a sorted
+ * array of its own Listeners merged with the Listeners without a key, so posting a {@link KeyedEvent} takes a single
+ * hash lookup, and only calls the Listeners of its key, along with the unkeyed Listeners, in order of priority. Events
+ * which aren't keyed, or whose key has no Listeners, are only dispatched to the unkeyed Listeners.
+ * <p>
+ * Like {@link CopyOnWriteListenerList}, the arrays which are dispatched to are never modified once published, so
+ * posting never blocks. Adding or removing a keyed Listener only copies the arrays of its own key. Adding or removing
+ * an unkeyed Listener only replaces the unkeyed array, and the merged array of each key is rebuilt by the first post
+ * to that key which finds it out of date.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class KeyedListenerList<T> implements ListenerList<T> {
+
+    /**
+     * The Listeners without a key.
+     */
+    private volatile Listener<T>[] unkeyed;
+
+    /**
+     * The Listeners of each key. Entries are replaced rather than modified, so they may be read without locking.
+     */
+    private final ConcurrentHashMap<Object, Entry<T>> keyed;
+    private final Object lock;
+
+    public KeyedListenerList() {
+        this.unkeyed = emptyListenerArray();
+        this.keyed = new ConcurrentHashMap<>();
+        this.lock = new Object();
+    }
+
+    @Override
+    public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
+        final Listener<T>[] listeners = this.listenersOf(event);
+        dispatcher.dispatch(event, listeners, listeners.length);
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        for (int i = from; i < to; i++) {
+            final Listener<T>[] listeners = this.listenersOf(events[i]);
+            dispatcher.dispatch(events[i], listeners, listeners.length);
+        }
+    }
+
+    private Listener<T>[] listenersOf(T event) {
+        final Listener<T>[] unkeyed = this.unkeyed;
+        if (event instanceof KeyedEvent) {
+            final Object key = ((KeyedEvent) event).getKey();
+            if (key != null) {
+                final Entry<T> entry = this.keyed.get(key);
+                if (entry != null) {
+                    if (entry.unkeyed == unkeyed) {
+                        return entry.merged;
+                    }
+                    // The unkeyed Listeners have changed since this entry was merged. An entry merged with an outdated
+                    // array may be published by a racing post, but is then merged again by the next post to its key.
+                    final Entry<T> updated = new Entry<>(entry.own, unkeyed);
+                    this.keyed.replace(key, entry, updated);
+                    return updated.merged;
+                }
+            }
+        }
+        return unkeyed;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.unkeyed.length == 0 && this.keyed.isEmpty();
+    }
+
+    @Override
+    public boolean add(@NotNull Listener<T> listener) {
+        synchronized (this.lock) {
+            final Object key = listener.getKey();
+            if (key == null) {
+                final Listener<T>[] unkeyed = this.unkeyed;
+                if (Arrays.asList(unkeyed).contains(listener)) {
+                    return false;
+                }
+                this.unkeyed = insert(unkeyed, listener);
+                return true;
+            }
+
+            final Entry<T> entry = this.keyed.get(key);
+            if (entry == null) {
+                final Listener<T>[] own = insert(emptyListenerArray(), listener);
+                this.keyed.put(key, new Entry<>(own, this.unkeyed));
+                return true;
+            }
+            if (Arrays.asList(entry.own).contains(listener)) {
+                return false;
+            }
+            this.keyed.put(key, new Entry<>(insert(entry.own, listener), this.unkeyed));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(@NotNull Listener<T> listener) {
+        synchronized (this.lock) {
+            final Object key = listener.getKey();
+            if (key == null) {
+                final Listener<T>[] unkeyed = this.unkeyed;
+                final int index = Arrays.asList(unkeyed).indexOf(listener);
+                if (index < 0) {
+                    return false;
+                }
+                this.unkeyed = Util.arrayRemove(unkeyed, index);
+                return true;
+            }
+
+            final Entry<T> entry = this.keyed.get(key);
+            final int index = entry != null ? Arrays.asList(entry.own).indexOf(listener) : -1;
+            if (index < 0) {
+                return false;
+            }
+            // Once a key only has unkeyed Listeners, its events can be dispatched without the index
+            if (entry.own.length == 1) {
+                this.keyed.remove(key);
+            } else {
+                this.keyed.put(key, new Entry<>(Util.arrayRemove(entry.own, index), this.unkeyed));
+            }
+            return true;
+        }
+    }
+
+    private static <T> Listener<T>[] insert(Listener<T>[] arr, Listener<T> listener) {
+        int index = Arrays.binarySearch(arr, listener);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Util.arrayInsert(arr, index, listener);
+    }
+
+    /**
+     * Merges two arrays which are sorted by priority, placing the first array's Listeners first among equal priorities.
+     */
+    private static <T> Listener<T>[] merge(Listener<T>[] first, Listener<T>[] second) {
+        final Listener<T>[] merged = Arrays.copyOf(first, first.length + second.length);
+        int i = 0, j = 0, k = 0;
+        while (i < first.length && j < second.length) {
+            merged[k++] = second[j].compareTo(first[i]) < 0 ? second[j++] : first[i++];
+        }
+        while (i < first.length) {
+            merged[k++] = first[i++];
+        }
+        while (j < second.length) {
+            merged[k++] = second[j++];
+        }
+        return merged;
+    }
+
+    /**
+     * The Listeners of a key, and their merge with the unkeyed Listeners at the time the entry was created.
+     */
+    private static final class Entry<T> {
+
+        final Listener<T>[] own;
+        final Listener<T>[] unkeyed;
+        final Listener<T>[] merged;
+
+        Entry(Listener<T>[] own, Listener<T>[] unkeyed) {
+            this.own = own;
+            this.unkeyed = unkeyed;
+            this.merged = merge(unkeyed, own);
+        }
+    }
+
+    private static final Listener<?>[] EMPTY_LISTENERS = new Listener<?>[0];
+
+    @SuppressWarnings("unchecked")
+    private static <T> Listener<T>[] emptyListenerArray() {
+        return (Listener<T>[]) EMPTY_LISTENERS;
+    }
+}
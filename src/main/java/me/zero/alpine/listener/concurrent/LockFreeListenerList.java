@@ -0,0 +1,97 @@
+package me.zero.alpine.listener.concurrent;
+
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A {@link ListenerList} with the same copy-on-write semantics as {@link CopyOnWriteListenerList}, but whose
+ * modifications are lock-free. Rather than holding a lock while the array of Listeners is copied, each modification
+ * copies the current array and publishes the copy with a compare-and-set, retrying if another thread modified the
+ * array in the meantime. Membership is checked against the current array before copying, so adding a Listener which
+ * is already present, or removing one which isn't, never writes to the list.
+ * <p>
+ * This scales better when many threads subscribe and unsubscribe concurrently, at the cost of copies being discarded
+ * when modifications race. Like {@link CopyOnWriteListenerList}, a post which is in progress may still call a Listener
+ * that has been removed.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+public final class LockFreeListenerList<T> implements ListenerList<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeListenerList, Listener[]> LISTENERS =
+        AtomicReferenceFieldUpdater.newUpdater(LockFreeListenerList.class, Listener[].class, "listeners");
+
+    private volatile Listener<T>[] listeners;
+
+    public LockFreeListenerList() {
+        this.listeners = emptyListenerArray();
+    }
+
+    @Override
+    public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
+        final Listener<T>[] listeners = this.listeners;
+        dispatcher.dispatch(event, listeners, listeners.length);
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        final Listener<T>[] listeners = this.listeners;
+        for (int i = from; i < to; i++) {
+            dispatcher.dispatch(events[i], listeners, listeners.length);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.listeners.length == 0;
+    }
+
+    @Override
+    public boolean add(@NotNull Listener<T> listener) {
+        Listener<T>[] arr;
+        Listener<T>[] updated;
+        do {
+            arr = this.listeners;
+            if (Arrays.asList(arr).contains(listener)) {
+                return false;
+            }
+
+            int index = Arrays.binarySearch(arr, listener);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            updated = Util.arrayInsert(arr, index, listener);
+        } while (!LISTENERS.compareAndSet(this, arr, updated));
+        return true;
+    }
+
+    @Override
+    public boolean remove(@NotNull Listener<T> listener) {
+        Listener<T>[] arr;
+        Listener<T>[] updated;
+        do {
+            arr = this.listeners;
+            final int index = Arrays.asList(arr).indexOf(listener);
+            if (index < 0) {
+                return false;
+            }
+            updated = Util.arrayRemove(arr, index);
+        } while (!LISTENERS.compareAndSet(this, arr, updated));
+        return true;
+    }
+
+    private static final Listener<?>[] EMPTY_LISTENERS = new Listener<?>[0];
+
+    @SuppressWarnings("unchecked")
+    private static <T> Listener<T>[] emptyListenerArray() {
+        return (Listener<T>[]) EMPTY_LISTENERS;
+    }
+}
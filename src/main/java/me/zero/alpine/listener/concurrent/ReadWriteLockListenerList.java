@@ -5,6 +5,7 @@ import me.zero.alpine.listener.Listener;
 import me.zero.alpine.listener.ListenerList;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -39,6 +40,16 @@ public final class ReadWriteLockListenerList<T> implements ListenerList<T> {
         }
     }
 
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        this.r.lock();
+        try {
+            this.backing.postAll(events, from, to, dispatcher);
+        } finally {
+            this.r.unlock();
+        }
+    }
+
     @Override
     public boolean add(@NotNull Listener<T> listener) {
         this.w.lock();
@@ -58,4 +69,24 @@ public final class ReadWriteLockListenerList<T> implements ListenerList<T> {
             this.w.unlock();
         }
     }
+
+    @Override
+    public boolean removeAll(@NotNull Collection<? extends Listener<T>> listeners) {
+        this.w.lock();
+        try {
+            return this.backing.removeAll(listeners);
+        } finally {
+            this.w.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        this.r.lock();
+        try {
+            return this.backing.isEmpty();
+        } finally {
+            this.r.unlock();
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package me.zero.alpine.listener.concurrent;
+
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A wrapper implementation of {@link ListenerList} which uses a {@link StampedLock} for synchronization. Modifications
+ * acquire the write lock, and also update a sorted snapshot array of the Listeners which have been added to the
+ * backing list. Posting first takes an optimistic read of the snapshot, which doesn't write to any shared state, so
+ * posting threads don't contend with each other like they do over the reader count of a
+ * {@link ReadWriteLockListenerList}. If the optimistic read fails validation, because a modification was in progress,
+ * the event is posted to the backing list while holding the read lock instead.
+ * <p>
+ * Since an optimistic post dispatches to the snapshot without holding a lock, it may still call a Listener which is
+ * removed during the post, in the same way as {@link CopyOnWriteListenerList}, and it doesn't call the backing list's
+ * own {@link ListenerList#post post} implementation.
+ *
+ * @author Brady
+ * @see ListenerList#stampedLock(ListenerList)
+ * @since 3.1.1
+ */
+public final class StampedLockListenerList<T> implements ListenerList<T> {
+
+    private final ListenerList<T> backing;
+    private final StampedLock lock;
+
+    /**
+     * The Listeners of the backing list, in dispatch order. Only assigned while holding the write lock, and never
+     * modified once assigned.
+     */
+    private Listener<T>[] listeners;
+
+    public StampedLockListenerList(ListenerList<T> backing) {
+        this.backing = Objects.requireNonNull(backing);
+        this.lock = new StampedLock();
+        this.listeners = emptyListenerArray();
+    }
+
+    @Override
+    public void post(@NotNull T event, @NotNull EventDispatcher dispatcher) {
+        final long stamp = this.lock.tryOptimisticRead();
+        final Listener<T>[] listeners = this.listeners;
+        if (this.lock.validate(stamp)) {
+            dispatcher.dispatch(event, listeners, listeners.length);
+            return;
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            this.backing.post(event, dispatcher);
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        final long stamp = this.lock.tryOptimisticRead();
+        final Listener<T>[] listeners = this.listeners;
+        if (this.lock.validate(stamp)) {
+            for (int i = from; i < to; i++) {
+                dispatcher.dispatch(events[i], listeners, listeners.length);
+            }
+            return;
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            this.backing.postAll(events, from, to, dispatcher);
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    @Override
+    public boolean add(@NotNull Listener<T> listener) {
+        final long stamp = this.lock.writeLock();
+        try {
+            if (!this.backing.add(listener)) {
+                return false;
+            }
+            final Listener<T>[] arr = this.listeners;
+            int index = Arrays.binarySearch(arr, listener);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            this.listeners = Util.arrayInsert(arr, index, listener);
+            return true;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(@NotNull Listener<T> listener) {
+        final long stamp = this.lock.writeLock();
+        try {
+            if (!this.backing.remove(listener)) {
+                return false;
+            }
+            final Listener<T>[] arr = this.listeners;
+            final int index = Arrays.asList(arr).indexOf(listener);
+            if (index >= 0) {
+                this.listeners = Util.arrayRemove(arr, index);
+            }
+            return true;
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final long stamp = this.lock.tryOptimisticRead();
+        final boolean empty = this.listeners.length == 0;
+        if (this.lock.validate(stamp)) {
+            return empty;
+        }
+
+        final long readStamp = this.lock.readLock();
+        try {
+            return this.backing.isEmpty();
+        } finally {
+            this.lock.unlockRead(readStamp);
+        }
+    }
+
+    private static final Listener<?>[] EMPTY_LISTENERS = new Listener<?>[0];
+
+    @SuppressWarnings("unchecked")
+    private static <T> Listener<T>[] emptyListenerArray() {
+        return (Listener<T>[]) EMPTY_LISTENERS;
+    }
+}
@@ -5,6 +5,7 @@ import me.zero.alpine.listener.Listener;
 import me.zero.alpine.listener.ListenerList;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.Objects;
 
 /**
@@ -36,6 +37,13 @@ public final class SynchronizedListenerList<T> implements ListenerList<T> {
         }
     }
 
+    @Override
+    public void postAll(@NotNull T[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+        synchronized (this.sync) {
+            this.backing.postAll(events, from, to, dispatcher);
+        }
+    }
+
     @Override
     public boolean add(@NotNull Listener<T> listener) {
         synchronized (this.sync) {
@@ -49,4 +57,18 @@ public final class SynchronizedListenerList<T> implements ListenerList<T> {
             return this.backing.remove(listener);
         }
     }
+
+    @Override
+    public boolean removeAll(@NotNull Collection<? extends Listener<T>> listeners) {
+        synchronized (this.sync) {
+            return this.backing.removeAll(listeners);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        synchronized (this.sync) {
+            return this.backing.isEmpty();
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package me.zero.alpine.listener.discovery;
+
+import me.zero.alpine.listener.Subscriber;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Finds the listener candidates of indexed classes with the strategy provided by a {@link SubscriberIndex}, and those
+ * of any other class with the fallback strategies.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+final class IndexedDiscoveryStrategy implements ListenerDiscoveryStrategy {
+
+    private final SubscriberIndex index;
+    private final ListenerDiscoveryStrategy[] fallback;
+
+    IndexedDiscoveryStrategy(SubscriberIndex index, ListenerDiscoveryStrategy[] fallback) {
+        this.index = Objects.requireNonNull(index);
+        this.fallback = fallback.clone();
+    }
+
+    @Override
+    public Stream<ListenerCandidate<?>> findAll(Class<? extends Subscriber> cls) {
+        final ListenerDiscoveryStrategy strategy = this.index.getStrategy(cls);
+        if (strategy != null) {
+            return strategy.findAll(cls);
+        }
+        return Stream.of(this.fallback).flatMap(fallback -> fallback.findAll(cls));
+    }
+}
@@ -1,10 +1,12 @@
 package me.zero.alpine.listener.discovery;
 
+import me.zero.alpine.bus.EventBus;
 import me.zero.alpine.exception.ListenerBindException;
 import me.zero.alpine.listener.Listener;
 import me.zero.alpine.listener.Subscriber;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.ref.WeakReference;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -29,6 +31,24 @@ public interface ListenerCandidate<T> {
      */
     Stream<Listener<T>> bind(Subscriber instance);
 
+    /**
+     * Binds the Listener(s) provided by the class definition of the referenced {@link Subscriber}, without the
+     * Listeners strongly referencing it, so that the subscriber may still be garbage collected while they are
+     * subscribed. Callbacks of the bound Listeners have no effect once the subscriber has been collected. The default
+     * implementation binds the referenced subscriber with {@link #bind}, which keeps it reachable for as long as the
+     * Listeners are.
+     *
+     * @param reference A reference to the subscriber instance
+     * @return The bound Listeners
+     * @throws ListenerBindException If binding to the candidate fails
+     * @see EventBus#subscribeWeak(Subscriber)
+     * @since 3.1.1
+     */
+    default Stream<Listener<T>> bindWeak(@NotNull WeakReference<? extends Subscriber> reference) {
+        final Subscriber instance = reference.get();
+        return instance != null ? this.bind(instance) : Stream.empty();
+    }
+
     /**
      * Wraps the specified bind function, which produces a single {@link Listener} instance, and creates a new
      * {@link ListenerCandidate}. This helper method can be used to avoid having to call {@link Stream#of} in every
@@ -1,5 +1,6 @@
 package me.zero.alpine.listener.discovery;
 
+import me.zero.alpine.bus.EventBusBuilder;
 import me.zero.alpine.bus.EventManager;
 import me.zero.alpine.exception.ListenerDiscoveryException;
 import me.zero.alpine.listener.Listener;
@@ -20,7 +21,8 @@ public interface ListenerDiscoveryStrategy {
 
     /**
      * Locates all the listener candidates that are provided by the specified {@link Subscriber} class, according to
-     * this strategy.
+     * this strategy. {@link EventManager} caches the candidates of each class, and binds them to every subscriber
+     * instance of that class, so this is only called once per class and bus.
      *
      * @param cls The class to search
      * @return A stream of candidates
@@ -45,4 +47,33 @@ public interface ListenerDiscoveryStrategy {
     static @NotNull ListenerDiscoveryStrategy subscribeMethods() {
         return ListenerMethodDiscoveryStrategy.INSTANCE;
     }
+
+    /**
+     * Returns a discovery strategy which uses the strategies of the specified {@link SubscriberIndex} for the classes
+     * that it has indexed, and falls back to the reflective {@link #subscribeFields()} and {@link #subscribeMethods()}
+     * strategies for any other class. This replaces the default strategies of an {@link EventBusBuilder}, rather than
+     * being added to them, since otherwise the Listeners of indexed classes would be found twice.
+     *
+     * @param index The subscriber index
+     * @return The indexed strategy
+     * @see #indexed(SubscriberIndex, ListenerDiscoveryStrategy...)
+     * @since 3.1.1
+     */
+    static @NotNull ListenerDiscoveryStrategy indexed(@NotNull SubscriberIndex index) {
+        return indexed(index, subscribeFields(), subscribeMethods());
+    }
+
+    /**
+     * Returns a discovery strategy which uses the strategies of the specified {@link SubscriberIndex} for the classes
+     * that it has indexed, and the specified fallback strategies for any other class.
+     *
+     * @param index    The subscriber index
+     * @param fallback The strategies used for classes which aren't indexed
+     * @return The indexed strategy
+     * @since 3.1.1
+     */
+    static @NotNull ListenerDiscoveryStrategy indexed(@NotNull SubscriberIndex index,
+                                                      @NotNull ListenerDiscoveryStrategy... fallback) {
+        return new IndexedDiscoveryStrategy(index, fallback);
+    }
 }
@@ -9,13 +9,17 @@ import me.zero.alpine.listener.Subscribe;
 import me.zero.alpine.listener.Subscriber;
 import me.zero.alpine.util.Util;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -56,18 +60,52 @@ enum ListenerFieldDiscoveryStrategy implements ListenerDiscoveryStrategy {
             cause -> new ListenerDiscoveryException("Couldn't validate event type", cause)
         );
 
-        return ListenerCandidate.single(instance -> {
-            try {
-                // Create a lookup in the owner class
-                final MethodHandles.Lookup lookup = Util.getLookup().in(owner);
-                // Read the field using the trusted lookup
-                // (This should avoid setAccessible issues in future Java versions)
-                final Listener<T> listener = (Listener<T>) Objects.requireNonNull(lookup.unreflectGetter(field).invoke(instance));
+        // Create a lazily-initialized getter, shared by every instance bound to this candidate
+        final Callable<MethodHandle> getter = Util.lazy(() -> {
+            // Create a lookup in the owner class
+            final MethodHandles.Lookup lookup = Util.getLookup().in(owner);
+            // Read the field using the trusted lookup
+            // (This should avoid setAccessible issues in future Java versions)
+            return lookup.unreflectGetter(field);
+        });
+
+        return new ListenerCandidate<T>() {
+
+            @Override
+            public Stream<Listener<T>> bind(Subscriber instance) {
+                final Listener<T> listener = read(getter, instance);
                 listener.setTarget(target);
-                return listener;
-            } catch (Throwable e) {
-                throw new ListenerBindException("Unable to bind Listener field", e);
+                return Stream.of(listener);
             }
-        });
+
+            @Override
+            public Stream<Listener<T>> bindWeak(WeakReference<? extends Subscriber> reference) {
+                final Subscriber instance = reference.get();
+                if (instance == null) {
+                    return Stream.empty();
+                }
+                final Listener<T> listener = read(getter, instance);
+                listener.setTarget(target);
+
+                // The callback of the field may capture the subscriber, so it's only referenced weakly. The field keeps
+                // it reachable for as long as the subscriber is, unless the field is reassigned.
+                final WeakReference<Consumer<T>> callback = new WeakReference<>(listener.getCallback());
+                return Stream.of(listener.withCallback(event -> {
+                    final Consumer<T> current = callback.get();
+                    if (current != null) {
+                        current.accept(event);
+                    }
+                }));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Listener<T> read(Callable<MethodHandle> getter, Subscriber instance) {
+        try {
+            return (Listener<T>) Objects.requireNonNull(getter.call().invoke(instance));
+        } catch (Throwable e) {
+            throw new ListenerBindException("Unable to bind Listener field", e);
+        }
     }
 }
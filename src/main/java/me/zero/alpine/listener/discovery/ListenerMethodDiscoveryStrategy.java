@@ -14,11 +14,13 @@ import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -75,6 +77,7 @@ enum ListenerMethodDiscoveryStrategy implements ListenerDiscoveryStrategy {
         }).toArray(Predicate[]::new);
 
         final int priority = method.getAnnotation(Subscribe.class).priority();
+        final boolean receiveCancelled = method.getAnnotation(Subscribe.class).receiveCancelled();
 
         // Create a lazily-initialized factory for providing Consumers bound to the target method
         final Callable<MethodHandle> factory = Util.lazy(() -> {
@@ -90,16 +93,49 @@ enum ListenerMethodDiscoveryStrategy implements ListenerDiscoveryStrategy {
             ).getTarget();
         });
 
-        return ListenerCandidate.single(instance -> {
-            try {
-                // Bind the instance to the event callback method using the factory
-                final Consumer<T> callback = (Consumer<T>) factory.call().invoke(instance);
+        // Create a lazily-initialized factory for providing BiConsumers which call the target method on a subscriber,
+        // used to bind weakly referenced subscribers
+        final Callable<MethodHandle> unboundFactory = Util.lazy(() -> {
+            final MethodHandles.Lookup lookup = Util.getLookup().in(owner);
+            return LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(Void.TYPE, Object.class, Object.class),
+                lookup.unreflect(method),
+                MethodType.methodType(Void.TYPE, owner, target)
+            ).getTarget();
+        });
+
+        return new ListenerCandidate<T>() {
+
+            @Override
+            public Stream<Listener<T>> bind(Subscriber instance) {
+                try {
+                    // Bind the instance to the event callback method using the factory
+                    final Consumer<T> callback = (Consumer<T>) factory.call().invoke(instance);
 
-                // TODO: Caching?
-                return new Listener<>(target, callback, priority, filters);
-            } catch (Throwable e) {
-                throw new ListenerBindException("Unable to bind Listener method", e);
+                    return Stream.of(new Listener<>(target, callback, priority, receiveCancelled, filters));
+                } catch (Throwable e) {
+                    throw new ListenerBindException("Unable to bind Listener method", e);
+                }
             }
-        });
+
+            @Override
+            public Stream<Listener<T>> bindWeak(WeakReference<? extends Subscriber> reference) {
+                try {
+                    final BiConsumer<Object, T> unbound = (BiConsumer<Object, T>) unboundFactory.call().invoke();
+                    final Consumer<T> callback = event -> {
+                        final Subscriber instance = reference.get();
+                        if (instance != null) {
+                            unbound.accept(instance, event);
+                        }
+                    };
+                    return Stream.of(new Listener<>(target, callback, priority, receiveCancelled, filters));
+                } catch (Throwable e) {
+                    throw new ListenerBindException("Unable to bind Listener method", e);
+                }
+            }
+        };
     }
 }
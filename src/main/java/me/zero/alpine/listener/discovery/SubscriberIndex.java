@@ -0,0 +1,38 @@
+package me.zero.alpine.listener.discovery;
+
+import me.zero.alpine.listener.Subscribe;
+import me.zero.alpine.listener.Subscriber;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An index of the {@link ListenerDiscoveryStrategy} of each {@link Subscriber} class, which finds its listener
+ * candidates without reflection. An index is generated at compile time by the {@code alpine-processor} annotation
+ * processor, which reads the {@link Subscribe} annotations of every subscriber class being compiled, and generates a
+ * strategy for each class that binds its Listeners with direct field reads and method references. The generated index
+ * is used through {@link ListenerDiscoveryStrategy#indexed(SubscriberIndex)}:
+ * <pre>
+ * EventBus bus = EventManager.builder()
+ *     .setName("my_application")
+ *     .setDiscoveryStrategies(ListenerDiscoveryStrategy.indexed(new MySubscriberIndex()))
+ *     .build();
+ * </pre>
+ * The name of the generated index is specified with the {@code -Aalpine.subscriberIndex=com.example.MySubscriberIndex}
+ * compiler option.
+ *
+ * @author Brady
+ * @since 3.1.1
+ */
+@FunctionalInterface
+public interface SubscriberIndex {
+
+    /**
+     * Returns the strategy which finds the listener candidates declared by exactly the specified class, or
+     * {@code null} if the class isn't indexed.
+     *
+     * @param cls The subscriber class
+     * @return The strategy of the class, or {@code null}
+     * @since 3.1.1
+     */
+    @Nullable ListenerDiscoveryStrategy getStrategy(@NotNull Class<? extends Subscriber> cls);
+}
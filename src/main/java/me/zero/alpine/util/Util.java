@@ -1,6 +1,7 @@
 package me.zero.alpine.util;
 
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Unmodifiable;
 import sun.misc.Unsafe;
 
 import java.lang.invoke.MethodHandles;
@@ -22,11 +23,17 @@ public final class Util {
 
     private Util() {}
 
-    private static final WeakHashMap<Class<?>, Set<Class<?>>> HIERARCHY_CACHE;
+    private static final ClassValue<Hierarchy> HIERARCHY_CACHE;
     private static final MethodHandles.Lookup LOOKUP;
 
     static {
-        HIERARCHY_CACHE = new WeakHashMap<>();
+        HIERARCHY_CACHE = new ClassValue<Hierarchy>() {
+
+            @Override
+            protected Hierarchy computeValue(Class<?> type) {
+                return computeHierarchy(type);
+            }
+        };
         try {
             Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
             theUnsafe.setAccessible(true);
@@ -110,12 +117,16 @@ public final class Util {
     }
 
     public static <T> Iterator<T> arrayIterator(final T[] array) {
+        return arrayIterator(array, array.length);
+    }
+
+    public static <T> Iterator<T> arrayIterator(final T[] array, final int length) {
         return new Iterator<T>() {
             private int i = 0;
 
             @Override
             public boolean hasNext() {
-                return this.i != array.length;
+                return this.i != length;
             }
 
             @Override
@@ -125,27 +136,90 @@ public final class Util {
         };
     }
 
+    /**
+     * Returns a copy of the specified array with {@code element} inserted at {@code index}.
+     */
+    public static <T> T[] arrayInsert(final T[] array, final int index, final T element) {
+        final T[] newArray = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, newArray, index + 1, array.length - index);
+        newArray[index] = element;
+        return newArray;
+    }
+
+    /**
+     * Returns a copy of the specified array with the element at {@code index} removed.
+     */
+    public static <T> T[] arrayRemove(final T[] array, final int index) {
+        final T[] newArray = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, newArray, index, array.length - index - 1);
+        return newArray;
+    }
+
     public static <T> Iterator<T> singletonIterator(final T element) {
         return Collections.singleton(element).iterator();
     }
 
-    public synchronized static <T> Set<Class<?>> flattenHierarchy(final Class<T> cls) {
-        final Set<Class<?>> cached = HIERARCHY_CACHE.get(cls);
-        if (cached != null) {
-            return cached;
-        }
+    /**
+     * Returns the specified class and every class and interface that it extends or implements. The set iterates in the
+     * order of {@link #flattenHierarchyOrdered}, and is cached in the same way.
+     */
+    public static <T> @Unmodifiable Set<Class<?>> flattenHierarchy(final Class<T> cls) {
+        return HIERARCHY_CACHE.get(cls).set;
+    }
 
-        final Set<Class<?>> flattened = new HashSet<>();
+    /**
+     * Returns the specified class, followed by its superclasses from nearest to furthest, and then every interface that
+     * it implements, without duplicates. The result is computed once per class and cached in a {@link ClassValue}, so
+     * it may be called from any number of threads without locking, and doesn't prevent the class from being unloaded.
+     *
+     * @since 3.1.1
+     */
+    public static @Unmodifiable List<Class<?>> flattenHierarchyOrdered(final Class<?> cls) {
+        return HIERARCHY_CACHE.get(cls).list;
+    }
+
+    private static Hierarchy computeHierarchy(final Class<?> cls) {
+        final Set<Class<?>> flattened = new LinkedHashSet<>();
         flattened.add(cls);
-        if (cls.getSuperclass() != null) {
-            flattened.addAll(flattenHierarchy(cls.getSuperclass()));
+
+        // The hierarchy of the superclass is already flattened, so only its classes need to be copied first
+        final List<Class<?>> superHierarchy = cls.getSuperclass() != null
+            ? HIERARCHY_CACHE.get(cls.getSuperclass()).list
+            : Collections.emptyList();
+        for (Class<?> type : superHierarchy) {
+            if (!type.isInterface()) {
+                flattened.add(type);
+            }
         }
         for (Class<?> iface : cls.getInterfaces()) {
-            flattened.addAll(flattenHierarchy(iface));
+            flattened.addAll(HIERARCHY_CACHE.get(iface).list);
         }
+        flattened.addAll(superHierarchy);
+
+        return new Hierarchy(flattened);
+    }
 
-        HIERARCHY_CACHE.put(cls, flattened);
-        return flattened;
+    /**
+     * The flattened hierarchy of a class, as both an ordered list and a set with the same order.
+     */
+    private static final class Hierarchy {
+
+        final List<Class<?>> list;
+        final Set<Class<?>> set;
+
+        Hierarchy(Set<Class<?>> flattened) {
+            this.list = Collections.unmodifiableList(Arrays.asList(flattened.toArray(new Class<?>[0])));
+            this.set = Collections.unmodifiableSet(flattened);
+        }
+    }
+
+    /**
+     * Throws the specified {@link Throwable} without requiring it to be declared. The return type allows call-sites to
+     * use {@code throw Util.sneakyThrow(cause)} so that the compiler recognizes the statement as terminal.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Throwable> RuntimeException sneakyThrow(final Throwable cause) throws E {
+        throw (E) cause;
     }
 
     @FunctionalInterface
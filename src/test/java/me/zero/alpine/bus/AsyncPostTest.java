@@ -0,0 +1,98 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class AsyncPostTest {
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void futureCompletesAfterListeners() throws Exception {
+        final EventBus bus = EventManager.builder().setName("test").setAsyncExecutor(executor).build();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        bus.subscribe(new Listener<>(Event.class, e -> threads.add(Thread.currentThread())));
+
+        final Event event = new Event();
+        assertSame(event, bus.postAsync(event).get(5, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+        assertNotSame(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    void explicitExecutorIsUsed() throws Exception {
+        final EventBus bus = EventManager.builder().setName("test").build();
+        final AtomicInteger executed = new AtomicInteger();
+        final Executor counting = command -> {
+            executed.incrementAndGet();
+            command.run();
+        };
+
+        bus.postAsync(new Event(), counting).get(5, TimeUnit.SECONDS);
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    void propagatedExceptionCompletesExceptionally() {
+        final EventBus bus = EventManager.builder().setName("test").setAsyncExecutor(executor).noExceptionHandler().build();
+        final IllegalStateException thrown = new IllegalStateException();
+        bus.subscribe(new Listener<>(Event.class, e -> {throw thrown;}));
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> bus.postAsync(new Event()).get(5, TimeUnit.SECONDS));
+        assertSame(thrown, e.getCause());
+    }
+
+    @Test
+    void shutdownDrainsInFlightEvents() throws Exception {
+        final EventBus bus = EventManager.builder().setName("test").setAsyncExecutor(executor).build();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger received = new AtomicInteger();
+        bus.subscribe(new Listener<>(Event.class, e -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            received.incrementAndGet();
+        }));
+
+        final CompletableFuture<Event> first = bus.postAsync(new Event());
+        final CompletableFuture<Event> second = bus.postAsync(new Event());
+        bus.shutdown();
+
+        // Posts after shutdown are rejected, while accepted posts are still pending
+        final CompletableFuture<Event> rejected = bus.postAsync(new Event());
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertFalse(bus.awaitQuiescence(10, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(bus.awaitQuiescence(5, TimeUnit.SECONDS));
+        assertEquals(2, received.get());
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    static class Event {}
+}
@@ -0,0 +1,145 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public interface CoalescingTest {
+
+    EventBusBuilder<EventBus> builder();
+
+    @Test
+    default void latestEventIsDeliveredOnDrain() {
+        final EventBus bus = builder().setCoalesced(MoveEvent.class).build();
+        final List<MoveEvent> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(MoveEvent.class, received::add));
+
+        final MoveEvent a = new MoveEvent(1, 0), b = new MoveEvent(1, 1), c = new MoveEvent(2, 2);
+        bus.post(a);
+        bus.post(b);
+        bus.post(c);
+        assertTrue(received.isEmpty());
+
+        assertEquals(1, bus.drainCoalesced());
+        assertEquals(Collections.singletonList(c), received);
+
+        assertEquals(0, bus.drainCoalesced());
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    default void latestEventOfEachKeyIsDeliveredInOrder() {
+        final EventBus bus = builder().setCoalesced(MoveEvent.class, e -> e.id).build();
+        final List<MoveEvent> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(MoveEvent.class, received::add));
+
+        final MoveEvent a = new MoveEvent(2, 0), b = new MoveEvent(1, 0), c = new MoveEvent(2, 1);
+        bus.post(a);
+        bus.post(b);
+        bus.post(c);
+        assertTrue(received.isEmpty());
+
+        assertEquals(2, bus.drainCoalesced());
+        assertEquals(Arrays.asList(c, b), received);
+        assertEquals(0, bus.drainCoalesced());
+    }
+
+    @Test
+    default void eventsPostedWhileDrainingArePending() {
+        final EventBus bus = builder().setCoalesced(MoveEvent.class, e -> e.id).build();
+        final List<MoveEvent> received = new ArrayList<>();
+        final MoveEvent repost = new MoveEvent(1, 1);
+        bus.subscribe(new Listener<>(MoveEvent.class, e -> {
+            received.add(e);
+            if (e != repost) {
+                bus.post(repost);
+            }
+        }));
+
+        bus.post(new MoveEvent(1, 0));
+        assertEquals(1, bus.drainCoalesced());
+        assertEquals(1, received.size());
+
+        assertEquals(1, bus.drainCoalesced());
+        assertSame(repost, received.get(1));
+    }
+
+    @Test
+    default void otherTypesAreNotCoalesced() {
+        final EventBus bus = builder().setCoalesced(MoveEvent.class).build();
+        final List<Object> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(String.class, received::add));
+
+        bus.post("a");
+        bus.post("b");
+        assertEquals(Arrays.asList("a", "b"), received);
+        assertEquals(0, bus.drainCoalesced());
+    }
+
+    @Test
+    default void channelsAndBatchesAreCoalesced() {
+        final EventBus bus = builder().setCoalesced(MoveEvent.class).build();
+        final List<MoveEvent> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(MoveEvent.class, received::add));
+
+        final MoveEvent a = new MoveEvent(1, 0), b = new MoveEvent(1, 1), c = new MoveEvent(1, 2);
+        bus.postAll(new MoveEvent[]{a, b});
+        bus.channel(MoveEvent.class).post(c);
+        assertTrue(received.isEmpty());
+
+        assertEquals(1, bus.drainCoalesced());
+        assertEquals(Collections.singletonList(c), received);
+    }
+
+    final class MoveEvent {
+
+        final int id;
+        final int position;
+
+        MoveEvent(int id, int position) {
+            this.id = id;
+            this.position = position;
+        }
+    }
+
+    class DefaultTest implements CoalescingTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test");
+        }
+    }
+
+    class GroupTest implements CoalescingTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").setSuperListeners();
+        }
+
+        @Test
+        void superListenersReceiveDrainedEvents() {
+            final EventBus bus = builder().setCoalesced(MoveEvent.class).build();
+            final List<Object> received = new ArrayList<>();
+            bus.subscribe(new Listener<>(Object.class, received::add));
+
+            final MoveEvent a = new MoveEvent(1, 0), b = new MoveEvent(1, 1);
+            bus.post(a);
+            bus.post(b);
+            bus.post("x");
+            assertEquals(Collections.singletonList("x"), received);
+
+            assertEquals(1, bus.drainCoalesced());
+            assertEquals(Arrays.asList("x", b), received);
+        }
+    }
+}
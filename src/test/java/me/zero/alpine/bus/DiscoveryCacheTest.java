@@ -0,0 +1,91 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscribe;
+import me.zero.alpine.listener.Subscriber;
+import me.zero.alpine.listener.discovery.ListenerDiscoveryStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class DiscoveryCacheTest {
+
+    @Test
+    void classesAreDiscoveredOnce() {
+        final List<Class<?>> searched = new ArrayList<>();
+        final EventBus bus = EventManager.builder()
+            .setName("test")
+            .setParentDiscovery()
+            .setDiscoveryStrategies(
+                counting(ListenerDiscoveryStrategy.subscribeFields(), searched),
+                ListenerDiscoveryStrategy.subscribeMethods()
+            )
+            .build();
+
+        final AtomicInteger received = new AtomicInteger();
+        final List<ChildSubscriber> subscribers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final ChildSubscriber subscriber = new ChildSubscriber(received);
+            subscribers.add(subscriber);
+            bus.subscribe(subscriber);
+        }
+        // The order of the hierarchy isn't defined, but each class should only be searched once
+        assertEquals(3, searched.size());
+        assertEquals(
+            new HashSet<>(Arrays.asList(ChildSubscriber.class, ParentSubscriber.class, Subscriber.class)),
+            new HashSet<>(searched)
+        );
+
+        // Each instance is bound to its own field and method listeners
+        bus.post("event");
+        assertEquals(300, received.get());
+
+        subscribers.forEach(bus::unsubscribe);
+        bus.post("event");
+        assertEquals(300, received.get());
+    }
+
+    private static ListenerDiscoveryStrategy counting(ListenerDiscoveryStrategy strategy, List<Class<?>> searched) {
+        return cls -> {
+            searched.add(cls);
+            return strategy.findAll(cls);
+        };
+    }
+
+    static class ParentSubscriber implements Subscriber {
+
+        final AtomicInteger received;
+
+        @Subscribe
+        private final Listener<String> parentListener;
+
+        ParentSubscriber(AtomicInteger received) {
+            this.received = received;
+            this.parentListener = new Listener<>(e -> received.incrementAndGet());
+        }
+    }
+
+    static class ChildSubscriber extends ParentSubscriber {
+
+        @Subscribe
+        private final Listener<String> childListener = new Listener<>(e -> this.received.incrementAndGet());
+
+        ChildSubscriber(AtomicInteger received) {
+            super(received);
+        }
+
+        @Subscribe
+        private void onEvent(String event) {
+            this.received.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.event.EventPriority;
+import me.zero.alpine.listener.Listener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class EventChannelTest {
+
+    AttachableEventBus bus;
+    List<String> called;
+
+    @BeforeEach
+    void setup() {
+        bus = EventManager.builder()
+            .setName("test")
+            .setSuperListeners()
+            .setAttachable()
+            .build();
+        called = new ArrayList<>();
+    }
+
+    @Test
+    void channelReflectsSubscriptions() {
+        final EventChannel<Event> channel = bus.channel(Event.class);
+        assertSame(Event.class, channel.getType());
+
+        // Subscribed after the channel was created
+        final Listener<Event> listener = new Listener<>(Event.class, e -> called.add("event"));
+        bus.subscribe(listener);
+        channel.post(new Event());
+        assertEquals(Collections.singletonList("event"), called);
+
+        bus.unsubscribe(listener);
+        channel.post(new Event());
+        assertEquals(1, called.size());
+    }
+
+    @Test
+    void channelReceivesSuperListenersSubscribedLater() {
+        final EventChannel<Event> channel = bus.channel(Event.class);
+
+        // Creates a new ListenerGroup for BaseEvent, which must be linked to the existing group for Event
+        bus.subscribe(new Listener<>(BaseEvent.class, e -> called.add("base")));
+        channel.post(new Event());
+        assertEquals(Collections.singletonList("base"), called);
+    }
+
+    @Test
+    void channelPostsSubclassEvents() {
+        final EventChannel<BaseEvent> channel = bus.channel(BaseEvent.class);
+        bus.subscribe(new Listener<>(Event.class, e -> called.add("event"), EventPriority.HIGH));
+        bus.subscribe(new Listener<>(BaseEvent.class, e -> called.add("base"), EventPriority.LOW));
+
+        // An Event posted through the BaseEvent channel is received by both listeners, the same as EventBus#post
+        channel.post(new Event());
+        assertEquals(Arrays.asList("event", "base"), called);
+    }
+
+    @Test
+    void channelPostsToAttachedBuses() {
+        final EventBus child = EventManager.builder().setName("child").build();
+        child.subscribe(new Listener<>(Event.class, e -> called.add("child")));
+        bus.subscribe(new Listener<>(Event.class, e -> called.add("parent")));
+
+        final EventChannel<Event> channel = bus.channel(Event.class);
+        bus.attach(child);
+        channel.post(new Event());
+        assertEquals(Arrays.asList("parent", "child"), called);
+    }
+
+    @Test
+    void invalidChannelTypeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> bus.channel(int.class));
+    }
+
+    static class BaseEvent {}
+
+    static class Event extends BaseEvent {}
+}
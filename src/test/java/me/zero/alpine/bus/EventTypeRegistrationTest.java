@@ -0,0 +1,109 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class EventTypeRegistrationTest {
+
+    @Test
+    void concurrentRegistrationCreatesOneListPerType() throws Exception {
+        final Map<Class<?>, AtomicInteger> created = new ConcurrentHashMap<>();
+        final EventBus bus = EventManager.builder()
+            .setName("test")
+            .setListenerListFactory(new ListenerListFactory() {
+                @Override
+                public <T> ListenerList<T> create(Class<T> eventType) {
+                    created.computeIfAbsent(eventType, k -> new AtomicInteger()).incrementAndGet();
+                    return ListenerListFactory.defaultFactory().create(eventType);
+                }
+            })
+            .build();
+
+        // Distinct subclasses of BaseEvent, enough to make the map of lists resize while types are registered
+        final List<Class<? extends BaseEvent>> types = defineTypes(300);
+        final AtomicInteger received = new AtomicInteger();
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final List<Class<? extends BaseEvent>> order = new ArrayList<>(types);
+            Collections.shuffle(order);
+            threads[t] = new Thread(() -> {
+                for (Class<? extends BaseEvent> type : order) {
+                    subscribe(bus, type, received);
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(types.size(), created.size());
+        created.values().forEach(count -> assertEquals(1, count.get()));
+
+        for (Class<? extends BaseEvent> type : types) {
+            bus.post(type.newInstance());
+        }
+        assertEquals(types.size() * threads.length, received.get());
+    }
+
+    private static <T> void subscribe(EventBus bus, Class<T> type, AtomicInteger received) {
+        bus.subscribe(new Listener<>(type, e -> received.incrementAndGet()));
+    }
+
+    private static List<Class<? extends BaseEvent>> defineTypes(int count) throws IOException {
+        final byte[] bytes = readClass(GeneratedEvent.class);
+        final List<Class<? extends BaseEvent>> types = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            types.add(new GeneratedEventLoader().define(bytes));
+        }
+        return types;
+    }
+
+    private static byte[] readClass(Class<?> cls) throws IOException {
+        final String resource = cls.getName().substring(cls.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = cls.getResourceAsStream(resource)) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public static class BaseEvent {}
+
+    public static class GeneratedEvent extends BaseEvent {}
+
+    private static final class GeneratedEventLoader extends ClassLoader {
+
+        GeneratedEventLoader() {
+            super(EventTypeRegistrationTest.class.getClassLoader());
+        }
+
+        @SuppressWarnings("unchecked")
+        Class<? extends BaseEvent> define(byte[] bytes) {
+            return (Class<? extends BaseEvent>) this.defineClass(GeneratedEvent.class.getName(), bytes, 0, bytes.length);
+        }
+    }
+}
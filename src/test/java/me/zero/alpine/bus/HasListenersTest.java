@@ -0,0 +1,118 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public interface HasListenersTest {
+
+    EventBusBuilder<EventBus> builder();
+
+    @Test
+    default void unobservedPostCreatesNoList() {
+        final CountingFactory factory = new CountingFactory();
+        final EventBus bus = builder().setListenerListFactory(factory).build();
+
+        bus.post(new Event());
+        bus.post("unobserved");
+        assertTrue(factory.created.isEmpty());
+    }
+
+    @Test
+    default void hasListenersReflectsSubscriptions() {
+        final EventBus bus = builder().build();
+        final Listener<Event> listener = new Listener<>(Event.class, e -> {});
+        assertFalse(bus.hasListeners(Event.class));
+
+        bus.subscribe(listener);
+        assertTrue(bus.hasListeners(Event.class));
+
+        bus.unsubscribe(listener);
+        assertFalse(bus.hasListeners(Event.class));
+    }
+
+    @Test
+    default void supplierIsOnlyCalledWithListeners() {
+        final EventBus bus = builder().build();
+        final List<Event> received = new ArrayList<>();
+
+        bus.post(Event.class, () -> fail("Supplier called without any listeners"));
+
+        bus.subscribe(new Listener<>(Event.class, received::add));
+        final Event event = new Event();
+        bus.post(Event.class, () -> event);
+        assertEquals(Collections.singletonList(event), received);
+    }
+
+    class Event {}
+
+    class SubEvent extends Event {}
+
+    class CountingFactory implements ListenerListFactory {
+
+        final List<Class<?>> created = new ArrayList<>();
+
+        @Override
+        public <T> @NotNull ListenerList<T> create(Class<T> cls) {
+            this.created.add(cls);
+            return ListenerListFactory.defaultFactory().create(cls);
+        }
+    }
+
+    class DefaultTest implements HasListenersTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test");
+        }
+
+        @Test
+        void attachedBusListenersAreIncluded() {
+            final AttachableEventBus parent = EventManager.builder().setName("parent").setAttachable().build();
+            final EventBus child = builder().build();
+            child.subscribe(new Listener<>(Event.class, e -> {}));
+            assertFalse(parent.hasListeners(Event.class));
+
+            parent.attach(child);
+            assertTrue(parent.hasListeners(Event.class));
+        }
+    }
+
+    class GroupTest implements HasListenersTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").setSuperListeners();
+        }
+
+        @Test
+        void subtypeHasSuperListeners() {
+            final CountingFactory factory = new CountingFactory();
+            final EventBus bus = builder().setListenerListFactory(factory).build();
+            final List<Event> received = new ArrayList<>();
+            assertFalse(bus.hasListeners(SubEvent.class));
+
+            bus.subscribe(new Listener<>(Event.class, received::add));
+            assertTrue(bus.hasListeners(SubEvent.class));
+            assertFalse(bus.hasListeners(String.class));
+
+            // The group for SubEvent is only created once it is posted, since it would receive Event's listeners
+            final SubEvent event = new SubEvent();
+            bus.post(event);
+            bus.post("unobserved");
+            assertEquals(Collections.singletonList(event), received);
+            assertFalse(factory.created.contains(String.class));
+        }
+    }
+}
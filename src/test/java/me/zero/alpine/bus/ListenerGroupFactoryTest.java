@@ -0,0 +1,73 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Brady
+ */
+public class ListenerGroupFactoryTest {
+
+    ListenerGroupFactory factory;
+    List<String> called;
+
+    @BeforeEach
+    void setup() {
+        factory = new ListenerGroupFactory(ListenerListFactory.defaultFactory());
+        called = new ArrayList<>();
+    }
+
+    @Test
+    void supertypeCreatedFirstIsLinked() {
+        final ListenerList<Base> base = factory.create(Base.class);
+        final ListenerList<Sub> sub = factory.create(Sub.class);
+        base.add(new Listener<>(Base.class, e -> called.add("base")));
+
+        sub.post(new Sub(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Collections.singletonList("base"), called);
+    }
+
+    @Test
+    void subtypeCreatedFirstIsLinked() {
+        final ListenerList<Sub> sub = factory.create(Sub.class);
+        final ListenerList<Iface> iface = factory.create(Iface.class);
+        final ListenerList<Base> base = factory.create(Base.class);
+        iface.add(new Listener<>(Iface.class, e -> called.add("iface"), 1));
+        base.add(new Listener<>(Base.class, e -> called.add("base"), 0));
+
+        sub.post(new Sub(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Arrays.asList("iface", "base"), called);
+
+        // Base isn't a subtype of Iface, so it only receives its own listener
+        called.clear();
+        base.post(new Base(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Collections.singletonList("base"), called);
+    }
+
+    @Test
+    void interfaceIsLinkedToObject() {
+        final ListenerList<Iface> iface = factory.create(Iface.class);
+        final ListenerList<Object> object = factory.create(Object.class);
+        object.add(new Listener<>(Object.class, e -> called.add("object")));
+
+        iface.post(new Sub(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Collections.singletonList("object"), called);
+    }
+
+    interface Iface {}
+
+    static class Base {}
+
+    static class Sub extends Base implements Iface {}
+}
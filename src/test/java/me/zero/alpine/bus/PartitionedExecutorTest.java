@@ -0,0 +1,112 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class PartitionedExecutorTest {
+
+    PartitionedExecutor executor;
+    EventBus bus;
+
+    @BeforeEach
+    void setup() {
+        executor = new PartitionedExecutor(4, event -> event instanceof KeyedEvent ? ((KeyedEvent) event).key : null);
+        bus = EventManager.builder().setName("test").setPartitionedExecutor(executor).build();
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void eventsWithSameKeyAreOrdered() throws InterruptedException {
+        final Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        bus.subscribe(new Listener<>(KeyedEvent.class, e -> received.computeIfAbsent(e.key, k -> new ArrayList<>()).add(e.sequence)));
+
+        final int keys = 16, events = 1000;
+        for (int sequence = 0; sequence < events; sequence++) {
+            for (int key = 0; key < keys; key++) {
+                bus.postAsync(new KeyedEvent(key, sequence));
+            }
+        }
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+
+        assertEquals(keys, received.size());
+        for (List<Integer> sequences : received.values()) {
+            assertEquals(events, sequences.size());
+            for (int i = 0; i < events; i++) {
+                assertEquals(i, (int) sequences.get(i));
+            }
+        }
+    }
+
+    @Test
+    void sameKeyUsesSameLane() {
+        final int lane = executor.laneOf(new KeyedEvent(7, 0));
+        for (int i = 1; i < 100; i++) {
+            assertEquals(lane, executor.laneOf(new KeyedEvent(7, i)));
+        }
+    }
+
+    @Test
+    void queueDepthIsReported() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        bus.subscribe(new Listener<>(KeyedEvent.class, e -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+
+        final KeyedEvent first = new KeyedEvent(1, 0);
+        final int lane = executor.laneOf(first);
+        bus.postAsync(first);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // The first event is being delivered, so the remaining events are queued behind it
+        for (int i = 1; i <= 3; i++) {
+            bus.postAsync(new KeyedEvent(1, i));
+        }
+        assertEquals(3, executor.getQueueDepth(lane));
+        assertEquals(3, executor.getQueueDepths()[lane]);
+
+        release.countDown();
+        assertTrue(bus.awaitQuiescence(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getQueueDepth(lane));
+    }
+
+    @Test
+    void invalidLaneCountThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedExecutor(0, event -> null));
+    }
+
+    static class KeyedEvent {
+
+        final int key;
+        final int sequence;
+
+        KeyedEvent(int key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+}
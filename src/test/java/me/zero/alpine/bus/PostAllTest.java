@@ -0,0 +1,194 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.event.CancellableEvent;
+import me.zero.alpine.event.EventPriority;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerArrayList;
+import me.zero.alpine.listener.ListenerList;
+import me.zero.alpine.listener.ListenerListFactory;
+import me.zero.alpine.listener.concurrent.ReadWriteLockListenerList;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public interface PostAllTest {
+
+    EventBusBuilder<EventBus> builder();
+
+    @Test
+    default void eventsAreDeliveredInOrder() {
+        final EventBus bus = builder().build();
+        final List<Object> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(Event.class, received::add));
+        bus.subscribe(new Listener<>(String.class, received::add));
+
+        final Event a = new Event(), b = new Event(), c = new Event();
+        final Object[] events = {a, b, "x", c, "y", 1};
+        bus.postAll(events);
+        assertEquals(Arrays.asList(a, b, "x", c, "y"), received);
+
+        received.clear();
+        bus.postAll(Arrays.asList(events));
+        assertEquals(Arrays.asList(a, b, "x", c, "y"), received);
+    }
+
+    @Test
+    default void eachEventIsDeliveredToAllListenersBeforeTheNext() {
+        final EventBus bus = builder().build();
+        final List<String> called = new ArrayList<>();
+        bus.subscribe(new Listener<>(Event.class, e -> called.add("high"), EventPriority.HIGH));
+        bus.subscribe(new Listener<>(Event.class, e -> called.add("low"), EventPriority.LOW));
+
+        bus.postAll(new Event[]{new Event(), new Event()});
+        assertEquals(Arrays.asList("high", "low", "high", "low"), called);
+    }
+
+    @Test
+    default void cancellationAppliesPerEvent() {
+        final EventBus bus = builder().setSkipCancelled().build();
+        final List<Event> received = new ArrayList<>();
+        final Event cancelled = new Event();
+        bus.subscribe(new Listener<>(Event.class, e -> {
+            if (e == cancelled) {
+                e.cancel();
+            }
+        }, EventPriority.HIGH));
+        bus.subscribe(new Listener<>(Event.class, received::add, EventPriority.LOW));
+
+        final Event first = new Event(), last = new Event();
+        bus.postAll(new Event[]{first, cancelled, last});
+        assertEquals(Arrays.asList(first, last), received);
+        assertTrue(cancelled.isCancelled());
+        assertFalse(first.isCancelled());
+    }
+
+    @Test
+    default void typedBatchPostsSubtypesIndividually() {
+        final EventBus bus = builder().build();
+        final List<Object> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(Event.class, received::add));
+        bus.subscribe(new Listener<>(SubEvent.class, received::add));
+
+        final Event a = new Event(), c = new Event();
+        final SubEvent b = new SubEvent();
+        bus.postAll(Event.class, Arrays.asList(a, b, c));
+        assertEquals(a, received.get(0));
+        assertEquals(b, received.get(1));
+        assertEquals(c, received.get(received.size() - 1));
+    }
+
+    class Event extends CancellableEvent {}
+
+    class SubEvent extends Event {}
+
+    class DefaultTest implements PostAllTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test");
+        }
+
+        @Test
+        void overriddenPostAllReceivesTypedArray() {
+            final EventList eventList = new EventList();
+            final EventBus bus = EventManager.builder().setName("test").setListenerListFactory(new ListenerListFactory() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+                    return eventType == Event.class ? (ListenerList<T>) eventList : new ListenerArrayList<>();
+                }
+            }).build();
+            final List<Object> received = new ArrayList<>();
+            bus.subscribe(new Listener<>(Event.class, received::add));
+            bus.subscribe(new Listener<>(String.class, received::add));
+
+            final Event a = new Event(), b = new Event();
+            bus.postAll(new Object[]{a, "x", b});
+            bus.postAll(Arrays.asList(a, b));
+            bus.postAll(Event.class, Arrays.asList(a, new SubEvent(), b));
+            bus.postAll(new Event[]{a, b});
+            assertEquals(Arrays.asList(a, "x", b, a, b, a, b, a, b), received);
+            assertEquals(6, eventList.batches);
+        }
+    }
+
+    /**
+     * A list which overrides {@link ListenerList#postAll} with its concrete array type, and therefore casts the array
+     * it is given in a bridge method.
+     */
+    final class EventList implements ListenerList<Event> {
+
+        final ListenerList<Event> backing = new ListenerArrayList<>();
+        int batches;
+
+        @Override
+        public void post(@NotNull Event event, @NotNull EventDispatcher dispatcher) {
+            this.backing.post(event, dispatcher);
+        }
+
+        @Override
+        public void postAll(@NotNull Event[] events, int from, int to, @NotNull EventDispatcher dispatcher) {
+            this.batches++;
+            this.backing.postAll(events, from, to, dispatcher);
+        }
+
+        @Override
+        public boolean add(@NotNull Listener<Event> listener) {
+            return this.backing.add(listener);
+        }
+
+        @Override
+        public boolean remove(@NotNull Listener<Event> listener) {
+            return this.backing.remove(listener);
+        }
+    }
+
+    class ReadWriteLockTest implements PostAllTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").setListenerListFactory(new ListenerListFactory() {
+                @Override
+                public <T> @NotNull ListenerList<T> create(Class<T> eventType) {
+                    return new ReadWriteLockListenerList<>(new ListenerArrayList<>());
+                }
+            });
+        }
+    }
+
+    class CompiledTest implements PostAllTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").setListenerListFactory(ListenerListFactory.compiled());
+        }
+    }
+
+    class GroupTest implements PostAllTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").setSuperListeners();
+        }
+
+        @Test
+        void superListenersReceiveBatchedSubtypes() {
+            final EventBus bus = builder().build();
+            final List<Object> received = new ArrayList<>();
+            bus.subscribe(new Listener<>(Event.class, received::add));
+
+            final SubEvent a = new SubEvent(), b = new SubEvent();
+            bus.postAll(new Object[]{a, b});
+            assertEquals(Arrays.asList(a, b), received);
+        }
+    }
+}
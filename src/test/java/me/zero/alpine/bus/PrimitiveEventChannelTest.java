@@ -0,0 +1,154 @@
+package me.zero.alpine.bus;
+
+import com.sun.management.ThreadMXBean;
+import me.zero.alpine.event.EventPriority;
+import me.zero.alpine.listener.DoubleListener;
+import me.zero.alpine.listener.IntListener;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerExceptionHandler;
+import me.zero.alpine.listener.LongListener;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class PrimitiveEventChannelTest {
+
+    private static final EventBus BUS = EventManager.builder().setName("test").build();
+
+    @Test
+    void listenersAreCalledInPriorityOrder() {
+        final IntEventChannel channel = BUS.intChannel();
+        final List<String> called = new ArrayList<>();
+        channel.subscribe(new IntListener(v -> called.add("low " + v), EventPriority.LOW));
+        channel.subscribe(new IntListener(v -> called.add("high " + v), EventPriority.HIGH));
+        channel.subscribe(new IntListener(v -> called.add("default " + v)));
+
+        channel.post(1);
+        assertEquals(Arrays.asList("high 1", "default 1", "low 1"), called);
+    }
+
+    @Test
+    void filtersAreApplied() {
+        final IntEventChannel channel = BUS.intChannel();
+        final List<Integer> received = new ArrayList<>();
+        channel.subscribe(new IntListener(received::add, v -> v > 0, v -> v % 2 == 0));
+
+        for (int i = -2; i <= 4; i++) {
+            channel.post(i);
+        }
+        assertEquals(Arrays.asList(2, 4), received);
+    }
+
+    @Test
+    void subscribeAndUnsubscribe() {
+        final IntEventChannel channel = BUS.intChannel();
+        final List<Integer> received = new ArrayList<>();
+        final IntListener listener = new IntListener(received::add);
+        assertTrue(channel.isEmpty());
+
+        assertTrue(channel.subscribe(listener));
+        assertFalse(channel.subscribe(listener));
+        assertFalse(channel.isEmpty());
+        channel.post(1);
+
+        assertTrue(channel.unsubscribe(listener));
+        assertFalse(channel.unsubscribe(listener));
+        assertTrue(channel.isEmpty());
+        channel.post(2);
+
+        assertEquals(Arrays.asList(1), received);
+    }
+
+    @Test
+    void longAndDoubleChannels() {
+        final LongEventChannel longChannel = BUS.longChannel();
+        final long[] longValue = new long[1];
+        longChannel.subscribe(new LongListener(v -> longValue[0] = v, v -> v != 0L));
+        longChannel.post(Long.MAX_VALUE);
+        longChannel.post(0L);
+        assertEquals(Long.MAX_VALUE, longValue[0]);
+
+        final DoubleEventChannel doubleChannel = BUS.doubleChannel();
+        final double[] doubleValue = new double[1];
+        doubleChannel.subscribe(new DoubleListener(v -> doubleValue[0] += v, EventPriority.HIGH));
+        doubleChannel.subscribe(new DoubleListener(v -> doubleValue[0] *= 2, EventPriority.LOW));
+        doubleChannel.post(0.25);
+        assertEquals(0.5, doubleValue[0]);
+    }
+
+    @Test
+    void exceptionsAreHandledByTheBus() {
+        final List<Object> handled = new ArrayList<>();
+        final EventBus bus = EventManager.builder()
+            .setName("test")
+            .setExceptionHandler(new ListenerExceptionHandler() {
+
+                @Override
+                public <T> boolean handleException(T event, Listener<T> listener, Throwable cause) {
+                    handled.add(event);
+                    handled.add(listener.getTarget());
+                    handled.add(cause.getMessage());
+                    return false;
+                }
+            })
+            .build();
+        final IntEventChannel channel = bus.intChannel();
+        final List<Integer> received = new ArrayList<>();
+        channel.subscribe(new IntListener(v -> {
+            throw new IllegalStateException("failed " + v);
+        }, EventPriority.HIGH));
+        channel.subscribe(new IntListener(received::add, EventPriority.LOW));
+
+        channel.post(1);
+        assertEquals(Arrays.asList(1, Integer.class, "failed 1"), handled);
+        // The remaining Listeners aren't called, as with any other event
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void exceptionsPropagateWithoutHandler() {
+        final DoubleEventChannel channel = EventManager.builder()
+            .setName("test")
+            .noExceptionHandler()
+            .build()
+            .doubleChannel();
+        channel.subscribe(new DoubleListener(v -> {
+            throw new IllegalStateException();
+        }));
+        assertThrows(IllegalStateException.class, () -> channel.post(1.0));
+    }
+
+    @Test
+    void postDoesNotBox() {
+        final IntEventChannel channel = BUS.intChannel();
+        final long[] sum = new long[1];
+        for (int i = 0; i < 8; i++) {
+            channel.subscribe(new IntListener(v -> sum[0] += v, i, v -> v >= 0));
+        }
+
+        // Warm up, so that one-time allocations aren't counted
+        for (int i = 0; i < 10_000; i++) {
+            channel.post(i + 1000);
+        }
+
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(thread);
+        // Values outside of the Integer cache would have to be allocated if they were boxed
+        for (int i = 0; i < 100_000; i++) {
+            channel.post(i + 1000);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Allow for a few kilobytes of one-time allocations by the JIT, boxing every value would be megabytes
+        assertTrue(allocated < 64 * 1024, "Posting allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,331 @@
+package me.zero.alpine.bus;
+
+import com.sun.management.ThreadMXBean;
+import me.zero.alpine.bus.RingBufferEventBus.WaitStrategy;
+import me.zero.alpine.event.EventPool;
+import me.zero.alpine.event.PooledEvent;
+import me.zero.alpine.listener.Listener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class RingBufferEventBusTest {
+
+    private static final BiConsumer<MutableEvent, Integer> SET_VALUE = (event, value) -> event.value = value;
+
+    @Test
+    void invalidBufferSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> create(0, WaitStrategy.PARK));
+        assertThrows(IllegalArgumentException.class, () -> create(12, WaitStrategy.PARK));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void eventsFromEachProducerAreDeliveredInOrder(WaitStrategy waitStrategy) throws Exception {
+        final RingBufferEventBus<MutableEvent> bus = create(16, waitStrategy);
+        final int producers = 4, events = 10_000;
+        final int[] last = new int[producers];
+        final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        // Only the consumer thread calls the listener, so the array needs no synchronization
+        bus.subscribe(new Listener<>(SequencedEvent.class, e -> {
+            if (e.index != last[e.producer] + 1) {
+                errors.add("Producer " + e.producer + " delivered " + e.index + " after " + last[e.producer]);
+            }
+            last[e.producer] = e.index;
+        }));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= events; i++) {
+                        bus.post(new SequencedEvent(producer, i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+        assertEquals(Collections.emptyList(), errors);
+        for (int p = 0; p < producers; p++) {
+            assertEquals(events, last[p]);
+        }
+        assertEquals(0, bus.getPending());
+        bus.shutdown();
+    }
+
+    @Test
+    void publishedEventsAreTranslatedIntoReusedSlots() throws InterruptedException {
+        final RingBufferEventBus<MutableEvent> bus = create(4, WaitStrategy.YIELD);
+        final List<Integer> values = new ArrayList<>();
+        final List<MutableEvent> instances = new ArrayList<>();
+        bus.subscribe(new Listener<>(MutableEvent.class, e -> {
+            values.add(e.value);
+            if (!instances.contains(e)) {
+                instances.add(e);
+            }
+        }));
+
+        for (int i = 0; i < 100; i++) {
+            bus.publish(SET_VALUE, i);
+        }
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+
+        assertEquals(100, values.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) values.get(i));
+        }
+        assertEquals(bus.getBufferSize(), instances.size());
+        bus.shutdown();
+    }
+
+    @Test
+    void failedTranslationIsNotDelivered() throws InterruptedException {
+        final RingBufferEventBus<MutableEvent> bus = create(4, WaitStrategy.YIELD);
+        final List<Integer> values = new ArrayList<>();
+        bus.subscribe(new Listener<>(MutableEvent.class, e -> values.add(e.value)));
+
+        bus.publish(SET_VALUE, 1);
+        assertThrows(IllegalStateException.class, () -> bus.publish(e -> {throw new IllegalStateException();}));
+        bus.publish(SET_VALUE, 2);
+
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+        assertEquals(2, values.size());
+        assertEquals(1, (int) values.get(0));
+        assertEquals(2, (int) values.get(1));
+        bus.shutdown();
+    }
+
+    @Test
+    void publishWithoutFactoryIsRejected() {
+        final RingBufferEventBus<Object> bus = new RingBufferEventBus<>(
+            EventManager.builder().setName("test"), 4, WaitStrategy.PARK
+        );
+        assertThrows(IllegalStateException.class, () -> bus.publish(e -> {}));
+        bus.shutdown();
+    }
+
+    @Test
+    void listenerExceptionsDoNotStopTheConsumer() throws InterruptedException {
+        final AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        final RingBufferEventBus<MutableEvent> bus = new RingBufferEventBus<>(
+            EventManager.builder().setName("test").noExceptionHandler(), 4, WaitStrategy.PARK, MutableEvent::new,
+            r -> {
+                final Thread thread = new Thread(r);
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler((t, e) -> uncaught.set(e));
+                return thread;
+            }
+        );
+        final List<String> received = new ArrayList<>();
+        final IllegalStateException thrown = new IllegalStateException();
+        bus.subscribe(new Listener<>(String.class, e -> {
+            if (e.equals("throw")) {
+                throw thrown;
+            }
+            received.add(e);
+        }));
+
+        bus.post("throw");
+        bus.post("after");
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+        assertSame(thrown, uncaught.get());
+        assertEquals(Collections.singletonList("after"), received);
+        bus.shutdown();
+    }
+
+    @Test
+    void shutdownDeliversAcceptedEventsThenRejects() throws InterruptedException {
+        final RingBufferEventBus<MutableEvent> bus = create(1024, WaitStrategy.PARK);
+        final List<Integer> values = new ArrayList<>();
+        bus.subscribe(new Listener<>(Integer.class, values::add));
+
+        for (int i = 0; i < 1000; i++) {
+            bus.post(i);
+        }
+        bus.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> bus.post(0));
+        assertThrows(RejectedExecutionException.class, () -> bus.publish(SET_VALUE, 0));
+
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+        assertEquals(1000, values.size());
+    }
+
+    @Test
+    void postAsyncCompletesAfterListenersAreCalled() throws Exception {
+        final RingBufferEventBus<MutableEvent> bus = create(4, WaitStrategy.PARK);
+        final AtomicReference<Thread> called = new AtomicReference<>();
+        bus.subscribe(new Listener<>(String.class, e -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            called.set(Thread.currentThread());
+        }));
+
+        final CompletableFuture<String> future = bus.postAsync("event");
+        assertEquals("event", future.get(10, TimeUnit.SECONDS));
+        assertNotNull(called.get());
+        assertNotSame(Thread.currentThread(), called.get());
+        bus.shutdown();
+    }
+
+    @Test
+    void postAsyncCompletesExceptionallyWhenAListenerThrows() throws InterruptedException {
+        final RingBufferEventBus<MutableEvent> bus = new RingBufferEventBus<>(
+            EventManager.builder().setName("test").noExceptionHandler(), 4, WaitStrategy.PARK, MutableEvent::new
+        );
+        final IllegalStateException thrown = new IllegalStateException();
+        bus.subscribe(new Listener<>(String.class, e -> {
+            throw thrown;
+        }));
+
+        final ExecutionException e = assertThrows(ExecutionException.class,
+            () -> bus.postAsync("event").get(10, TimeUnit.SECONDS));
+        assertSame(thrown, e.getCause());
+        bus.shutdown();
+    }
+
+    @Test
+    void postAsyncIsRejectedAfterShutdown() throws InterruptedException {
+        final RingBufferEventBus<MutableEvent> bus = create(4, WaitStrategy.PARK);
+        bus.shutdown();
+
+        final CompletableFuture<String> future = bus.postAsync("event");
+        assertTrue(future.isCompletedExceptionally());
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertInstanceOf(RejectedExecutionException.class,
+            assertThrows(ExecutionException.class, () -> bus.postAsync("event", Runnable::run).get()).getCause());
+    }
+
+    @Test
+    void steadyStatePostingDoesNotAllocate() throws InterruptedException {
+        final AtomicReference<Thread> consumer = new AtomicReference<>();
+        final RingBufferEventBus<MutableEvent> bus = new RingBufferEventBus<>(
+            EventManager.builder().setName("test"), 1024, WaitStrategy.YIELD, MutableEvent::new,
+            r -> {
+                final Thread thread = new Thread(r);
+                thread.setDaemon(true);
+                consumer.set(thread);
+                return thread;
+            }
+        );
+        final int[] sum = new int[1];
+        bus.subscribe(new Listener<>(MutableEvent.class, e -> sum[0] += e.value));
+        final Integer value = 1;
+
+        // Warm up until the consumer loop is compiled, so that one-time allocations aren't counted
+        for (int i = 0; i < 200_000; i++) {
+            bus.publish(SET_VALUE, value);
+        }
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+
+        // Any remaining one-time allocation, such as by a late compilation, only affects a single round, so the
+        // quietest round is the one measured
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long producerThread = Thread.currentThread().getId();
+        final long consumerThread = consumer.get().getId();
+        long producerAllocated = Long.MAX_VALUE, consumerAllocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            final long producerBefore = threads.getThreadAllocatedBytes(producerThread);
+            final long consumerBefore = threads.getThreadAllocatedBytes(consumerThread);
+            for (int i = 0; i < 100_000; i++) {
+                bus.publish(SET_VALUE, value);
+            }
+            producerAllocated = Math.min(producerAllocated, threads.getThreadAllocatedBytes(producerThread) - producerBefore);
+            assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+            consumerAllocated = Math.min(consumerAllocated, threads.getThreadAllocatedBytes(consumerThread) - consumerBefore);
+        }
+
+        // Allow for some noise from the measurement itself, a single allocation per event would be several megabytes
+        assertTrue(producerAllocated < 1024, "Publishing allocated " + producerAllocated + " bytes");
+        assertTrue(consumerAllocated < 1024, "Consuming allocated " + consumerAllocated + " bytes");
+        bus.shutdown();
+    }
+
+    @Test
+    void pooledEventsAreReleasedAfterDelivery() throws InterruptedException {
+        final RingBufferEventBus<MutableEvent> bus = create(4, WaitStrategy.YIELD);
+        final List<Object> released = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> values = new ArrayList<>();
+        final EventPool<PooledValue> pool = new EventPool<>(() -> new PooledValue(released));
+        // The value is still set during delivery, and cleared once the event has been returned to the pool
+        bus.subscribe(new Listener<>(PooledValue.class, e -> values.add(e.value)));
+
+        for (int i = 1; i <= 100; i++) {
+            final int value = i;
+            bus.postPooled(pool, e -> e.value = value);
+        }
+        assertThrows(IllegalStateException.class, () -> bus.postPooled(pool, e -> {throw new IllegalStateException();}));
+        assertTrue(bus.awaitQuiescence(10, TimeUnit.SECONDS));
+
+        assertEquals(100, values.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, (int) values.get(i));
+        }
+        assertEquals(101, released.size());
+        bus.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> bus.postPooled(pool, e -> {}));
+        assertEquals(102, released.size());
+    }
+
+    private static RingBufferEventBus<MutableEvent> create(int bufferSize, WaitStrategy waitStrategy) {
+        return new RingBufferEventBus<>(
+            EventManager.builder().setName("test"), bufferSize, waitStrategy, MutableEvent::new
+        );
+    }
+
+    static final class MutableEvent {
+
+        int value;
+    }
+
+    static final class PooledValue implements PooledEvent {
+
+        final List<Object> released;
+        int value;
+
+        PooledValue(List<Object> released) {
+            this.released = released;
+        }
+
+        @Override
+        public void reset() {
+            this.value = 0;
+            this.released.add(this);
+        }
+    }
+
+    static final class SequencedEvent {
+
+        final int producer;
+        final int index;
+
+        SequencedEvent(int producer, int index) {
+            this.producer = producer;
+            this.index = index;
+        }
+    }
+}
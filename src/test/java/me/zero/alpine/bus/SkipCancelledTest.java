@@ -0,0 +1,121 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.event.CancellableEvent;
+import me.zero.alpine.event.EventPriority;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerListFactory;
+import me.zero.alpine.listener.Subscribe;
+import me.zero.alpine.listener.Subscriber;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public interface SkipCancelledTest {
+
+    EventBusBuilder<EventBus> builder();
+
+    @Test
+    default void cancelledEventSkipsLowerPriorityListeners() {
+        final EventBus bus = builder().setSkipCancelled().build();
+        final Handler handler = new Handler();
+        bus.subscribe(handler);
+
+        assertTrue(bus.post(new Event()));
+        assertEquals(Arrays.asList("cancel", "receiveCancelled"), handler.called);
+    }
+
+    @Test
+    default void genericPostSkipsListeners() {
+        final EventBus bus = builder().setSkipCancelled().build();
+        final Handler handler = new Handler();
+        bus.subscribe(handler);
+
+        final Event event = new Event();
+        bus.post((Object) event);
+        assertTrue(event.isCancelled());
+        assertEquals(Arrays.asList("cancel", "receiveCancelled"), handler.called);
+    }
+
+    @Test
+    default void uncancelledEventReachesAllListeners() {
+        final EventBus bus = builder().setSkipCancelled().build();
+        final List<String> called = new ArrayList<>();
+        bus.subscribe(new Listener<>(Event.class, e -> called.add("high"), EventPriority.HIGH));
+        bus.subscribe(new Listener<>(Event.class, e -> called.add("low"), EventPriority.LOW));
+
+        assertFalse(bus.post(new Event()));
+        assertEquals(Arrays.asList("high", "low"), called);
+    }
+
+    @Test
+    default void listenersReceiveCancelledEventsByDefault() {
+        final EventBus bus = builder().build();
+        final Handler handler = new Handler();
+        bus.subscribe(handler);
+
+        assertTrue(bus.post(new Event()));
+        assertEquals(Arrays.asList("cancel", "receiveCancelled", "skipped"), handler.called);
+    }
+
+    class Event extends CancellableEvent {}
+
+    class Handler implements Subscriber {
+
+        final List<String> called = new ArrayList<>();
+
+        @Subscribe(priority = EventPriority.HIGH)
+        void cancel(Event event) {
+            called.add("cancel");
+            event.cancel();
+        }
+
+        @Subscribe(priority = EventPriority.MEDIUM, receiveCancelled = true)
+        void receiveCancelled(Event event) {
+            called.add("receiveCancelled");
+        }
+
+        @Subscribe(priority = EventPriority.LOW)
+        void skipped(Event event) {
+            called.add("skipped");
+        }
+    }
+
+    class DefaultTest implements SkipCancelledTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test");
+        }
+    }
+
+    class NoExceptionHandlerTest implements SkipCancelledTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").noExceptionHandler();
+        }
+    }
+
+    class CompiledTest implements SkipCancelledTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").setListenerListFactory(ListenerListFactory.compiled());
+        }
+    }
+
+    class GroupTest implements SkipCancelledTest {
+
+        @Override
+        public EventBusBuilder<EventBus> builder() {
+            return EventManager.builder().setName("test").setSuperListeners();
+        }
+    }
+}
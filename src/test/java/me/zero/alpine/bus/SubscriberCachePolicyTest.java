@@ -0,0 +1,143 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Subscribe;
+import me.zero.alpine.listener.Subscriber;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class SubscriberCachePolicyTest {
+
+    @Test
+    void retainKeepsUnsubscribedListeners() {
+        final EventManager bus = bus(SubscriberCachePolicy.retain());
+        final CountingSubscriber subscriber = new CountingSubscriber();
+
+        bus.subscribe(subscriber);
+        bus.unsubscribe(subscriber);
+        bus.subscribe(subscriber);
+        bus.post("event");
+        assertEquals(1, subscriber.received.get());
+
+        assertEquals(1, bus.getSubscriberCacheHits());
+        assertEquals(1, bus.getSubscriberCacheMisses());
+    }
+
+    @Test
+    void evictOnUnsubscribeRebindsListeners() {
+        final EventManager bus = bus(SubscriberCachePolicy.evictOnUnsubscribe());
+        final CountingSubscriber subscriber = new CountingSubscriber();
+
+        bus.subscribe(subscriber);
+        bus.unsubscribe(subscriber);
+        bus.subscribe(subscriber);
+        bus.post("event");
+        assertEquals(1, subscriber.received.get());
+
+        // The rebound Listeners must still be removed by unsubscribing
+        bus.unsubscribe(subscriber);
+        bus.post("event");
+        assertEquals(1, subscriber.received.get());
+
+        assertEquals(0, bus.getSubscriberCacheHits());
+        assertEquals(2, bus.getSubscriberCacheMisses());
+    }
+
+    @Test
+    void evictOnUnsubscribeReleasesSubscriber() throws InterruptedException {
+        final EventManager bus = bus(SubscriberCachePolicy.evictOnUnsubscribe());
+        CountingSubscriber subscriber = new CountingSubscriber();
+        final WeakReference<CountingSubscriber> reference = new WeakReference<>(subscriber);
+
+        bus.subscribe(subscriber);
+        bus.unsubscribe(subscriber);
+        subscriber = null;
+
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    @Test
+    void lruKeepsMostRecentlyUnsubscribed() {
+        final EventManager bus = bus(SubscriberCachePolicy.lru(1));
+        final CountingSubscriber first = new CountingSubscriber();
+        final CountingSubscriber second = new CountingSubscriber();
+
+        bus.subscribe(first);
+        bus.unsubscribe(first);
+        bus.subscribe(second);
+        bus.unsubscribe(second);
+        assertEquals(2, bus.getSubscriberCacheMisses());
+
+        // The Listeners of the first subscriber were evicted when the second was unsubscribed
+        bus.subscribe(second);
+        bus.subscribe(first);
+        assertEquals(1, bus.getSubscriberCacheHits());
+        assertEquals(3, bus.getSubscriberCacheMisses());
+
+        bus.post("event");
+        assertEquals(1, first.received.get());
+        assertEquals(1, second.received.get());
+    }
+
+    @Test
+    void softKeepsUnsubscribedListeners() {
+        final EventManager bus = bus(SubscriberCachePolicy.soft());
+        final CountingSubscriber subscriber = new CountingSubscriber();
+
+        bus.subscribe(subscriber);
+        bus.unsubscribe(subscriber);
+        bus.subscribe(subscriber);
+        bus.post("event");
+        assertEquals(1, subscriber.received.get());
+
+        bus.unsubscribe(subscriber);
+        bus.post("event");
+        assertEquals(1, subscriber.received.get());
+        assertEquals(2, bus.getSubscriberCacheHits() + bus.getSubscriberCacheMisses());
+    }
+
+    @Test
+    void resubscribingIsAHit() {
+        final EventManager bus = bus(SubscriberCachePolicy.evictOnUnsubscribe());
+        final CountingSubscriber subscriber = new CountingSubscriber();
+
+        bus.subscribe(subscriber);
+        bus.subscribe(subscriber);
+        bus.post("event");
+        assertEquals(1, subscriber.received.get());
+        assertEquals(1, bus.getSubscriberCacheHits());
+        assertEquals(1, bus.getSubscriberCacheMisses());
+    }
+
+    @Test
+    void negativeLruSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SubscriberCachePolicy.lru(-1));
+    }
+
+    private static EventManager bus(SubscriberCachePolicy policy) {
+        return (EventManager) EventManager.builder()
+            .setName("test")
+            .setSubscriberCachePolicy(policy)
+            .build();
+    }
+
+    static final class CountingSubscriber implements Subscriber {
+
+        final AtomicInteger received = new AtomicInteger();
+
+        @Subscribe
+        void onEvent(String event) {
+            this.received.incrementAndGet();
+        }
+    }
+}
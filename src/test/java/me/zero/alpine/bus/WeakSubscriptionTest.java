@@ -0,0 +1,146 @@
+package me.zero.alpine.bus;
+
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.Subscribe;
+import me.zero.alpine.listener.Subscriber;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class WeakSubscriptionTest {
+
+    @Test
+    void weakSubscriberReceivesEvents() {
+        final EventManager bus = bus();
+        final AtomicInteger received = new AtomicInteger();
+        final CountingSubscriber subscriber = new CountingSubscriber(received);
+
+        bus.subscribeWeak(subscriber);
+        bus.subscribeWeak(subscriber);
+        bus.post("event");
+        assertEquals(1, received.get());
+
+        bus.unsubscribe(subscriber);
+        bus.post("event");
+        assertEquals(1, received.get());
+        assertFalse(bus.hasListeners(String.class));
+    }
+
+    @Test
+    void collectedSubscriberIsPurged() throws InterruptedException {
+        final EventManager bus = bus();
+        final AtomicInteger received = new AtomicInteger();
+        bus.subscribeWeak(new CountingSubscriber(received));
+        assertTrue(bus.hasListeners(String.class));
+
+        int purged = 0;
+        for (int i = 0; i < 100 && purged == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+            purged = bus.purgeCollectedSubscribers();
+        }
+        assertEquals(1, purged);
+        assertFalse(bus.hasListeners(String.class));
+
+        bus.post("event");
+        assertEquals(0, received.get());
+    }
+
+    @Test
+    void capturingListenerFieldIsPurged() throws InterruptedException {
+        final EventManager bus = bus();
+        final AtomicInteger received = new AtomicInteger();
+        bus.subscribeWeak(new FieldSubscriber(received));
+        bus.post("event");
+        assertEquals(1, received.get());
+
+        int purged = 0;
+        for (int i = 0; i < 100 && purged == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+            purged = bus.purgeCollectedSubscribers();
+        }
+        assertEquals(1, purged);
+        assertFalse(bus.hasListeners(String.class));
+    }
+
+    @Test
+    void fieldFiltersAreAppliedOnce() {
+        final EventManager bus = bus();
+        final AtomicInteger received = new AtomicInteger();
+        final AtomicInteger filtered = new AtomicInteger();
+        final FilteredFieldSubscriber subscriber = new FilteredFieldSubscriber(received, filtered);
+        bus.subscribeWeak(subscriber);
+
+        bus.post("accepted");
+        bus.post("rejected");
+        assertEquals(1, received.get());
+        assertEquals(2, filtered.get());
+    }
+
+    @Test
+    void strongSubscriptionsAreUnaffected() throws InterruptedException {
+        final EventManager bus = bus();
+        final AtomicInteger received = new AtomicInteger();
+        bus.subscribe(new CountingSubscriber(received));
+
+        System.gc();
+        Thread.sleep(10);
+        assertEquals(0, bus.purgeCollectedSubscribers());
+
+        bus.post("event");
+        assertEquals(1, received.get());
+    }
+
+    private static EventManager bus() {
+        return (EventManager) EventManager.builder()
+            .setName("test")
+            .build();
+    }
+
+    static final class CountingSubscriber implements Subscriber {
+
+        final AtomicInteger received;
+
+        CountingSubscriber(AtomicInteger received) {
+            this.received = received;
+        }
+
+        @Subscribe
+        void onEvent(String event) {
+            this.received.incrementAndGet();
+        }
+    }
+
+    static final class FieldSubscriber implements Subscriber {
+
+        final AtomicInteger received;
+
+        @Subscribe
+        final Listener<String> listener;
+
+        FieldSubscriber(AtomicInteger received) {
+            this.received = received;
+            // The callback captures 'this', which would keep the subscriber reachable if the Listener was subscribed as is
+            this.listener = new Listener<>(event -> this.received.incrementAndGet());
+        }
+    }
+
+    static final class FilteredFieldSubscriber implements Subscriber {
+
+        @Subscribe
+        final Listener<String> listener;
+
+        FilteredFieldSubscriber(AtomicInteger received, AtomicInteger filtered) {
+            this.listener = new Listener<>(event -> received.incrementAndGet(), event -> {
+                filtered.incrementAndGet();
+                return event.equals("accepted");
+            });
+        }
+    }
+}
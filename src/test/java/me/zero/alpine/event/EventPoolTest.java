@@ -0,0 +1,238 @@
+package me.zero.alpine.event;
+
+import com.sun.management.ThreadMXBean;
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.listener.Listener;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class EventPoolTest {
+
+    private static final Consumer<TickEvent> INCREMENT = e -> e.tick++;
+
+    @Test
+    void releasedEventIsResetAndReused() {
+        final EventPool<TickEvent> pool = new EventPool<>(TickEvent::new);
+        final TickEvent event = pool.acquire();
+        event.tick = 5;
+        pool.release(event);
+
+        assertEquals(0, event.tick);
+        assertSame(event, pool.acquire());
+    }
+
+    @Test
+    void nestedAcquireCreatesNewInstances() {
+        final EventPool<TickEvent> pool = new EventPool<>(TickEvent::new, 1);
+        final TickEvent outer = pool.acquire();
+        final TickEvent inner = pool.acquire();
+        assertNotSame(outer, inner);
+
+        pool.release(inner);
+        // The pool is full, so the outer event is discarded
+        pool.release(outer);
+        assertSame(inner, pool.acquire());
+        assertNotSame(outer, pool.acquire());
+    }
+
+    @Test
+    void postPooledReturnsEventAfterDispatch() {
+        final EventBus bus = EventManager.builder().setName("test").build();
+        final List<TickEvent> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(TickEvent.class, e -> {
+            assertEquals(1, e.tick);
+            received.add(e);
+        }));
+
+        bus.postPooled(TickEvent.class, INCREMENT);
+        bus.postPooled(TickEvent.class, INCREMENT);
+
+        assertEquals(2, received.size());
+        assertSame(received.get(0), received.get(1));
+        assertEquals(0, received.get(0).tick);
+    }
+
+    @Test
+    void postPooledReturnsEventWhenListenerThrows() {
+        final EventBus bus = EventManager.builder().setName("test").noExceptionHandler().build();
+        final EventPool<TickEvent> pool = new EventPool<>(TickEvent::new);
+        final List<TickEvent> received = new ArrayList<>();
+        bus.subscribe(new Listener<>(TickEvent.class, e -> {
+            received.add(e);
+            throw new IllegalStateException();
+        }));
+
+        assertThrows(IllegalStateException.class, () -> bus.postPooled(pool, INCREMENT));
+        assertSame(received.get(0), pool.acquire());
+    }
+
+    @Test
+    void postPooledSkipsTypesWithoutListeners() {
+        final EventBus bus = EventManager.builder().setName("test").build();
+        bus.postPooled(TickEvent.class, e -> fail("Initializer called without any listeners"));
+    }
+
+    @Test
+    void typeWithoutNoArgConstructorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> EventPool.of(ValueEvent.class));
+    }
+
+    @Test
+    void postPooledDoesNotAllocate() {
+        final EventBus bus = EventManager.builder().setName("test").build();
+        final int[] sum = new int[1];
+        bus.subscribe(new Listener<>(TickEvent.class, e -> sum[0] += e.tick));
+
+        // Warm up, so that one-time allocations, such as the pool of this thread, aren't counted
+        for (int i = 0; i < 10_000; i++) {
+            bus.postPooled(TickEvent.class, INCREMENT);
+        }
+
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            bus.postPooled(TickEvent.class, INCREMENT);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Allow for a few kilobytes of one-time allocations by the JIT, a single allocation per post would be megabytes
+        assertTrue(allocated < 64 * 1024, "Posting allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void debugReportsRetainedEvents() {
+        final EventBus bus = EventManager.builder().setName("test").build();
+        final List<PooledEvent> reported = new ArrayList<>();
+        final List<TickEvent> retained = new ArrayList<>();
+        bus.subscribe(new Listener<>(TickEvent.class, e -> {
+            if (retained.isEmpty()) {
+                retained.add(e);
+            }
+        }));
+
+        EventPool.setDebug(reported::add);
+        try {
+            assertTrue(EventPool.isDebug());
+            bus.postPooled(TickEvent.class, INCREMENT);
+            // Events returned after a collection are checked on the next return, keep posting until it's reported
+            for (int i = 0; i < 100 && reported.isEmpty(); i++) {
+                System.gc();
+                bus.postPooled(TickEvent.class, INCREMENT);
+            }
+        } finally {
+            EventPool.setDebug(null);
+        }
+
+        assertEquals(1, reported.size());
+        assertSame(retained.get(0), reported.get(0));
+        assertFalse(EventPool.isDebug());
+    }
+
+    @Test
+    void defaultDebugHandlerLogs() {
+        final EventPool<TickEvent> pool = new EventPool<>(TickEvent::new);
+        final List<TickEvent> retained = new ArrayList<>();
+        final List<LogRecord> records = new ArrayList<>();
+        final Logger logger = Logger.getLogger(EventPool.class.getName());
+        final Handler handler = new Handler() {
+
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+
+        logger.addHandler(handler);
+        EventPool.setDebug(true);
+        try {
+            assertTrue(EventPool.isDebug());
+            final TickEvent event = pool.acquire();
+            retained.add(event);
+            pool.release(event);
+
+            for (int i = 0; i < 100 && records.isEmpty(); i++) {
+                System.gc();
+                pool.release(pool.acquire());
+            }
+            assertEquals(1, records.size());
+            assertEquals(Level.WARNING, records.get(0).getLevel());
+            assertTrue(records.get(0).getMessage().contains(event.toString()), records.get(0).getMessage());
+        } finally {
+            EventPool.setDebug(false);
+            logger.removeHandler(handler);
+        }
+        assertFalse(EventPool.isDebug());
+    }
+
+    @Test
+    void failingDebugHandlerDoesNotFailRelease() {
+        final EventBus bus = EventManager.builder().setName("test").build();
+        final List<TickEvent> retained = new ArrayList<>();
+        final List<PooledEvent> reported = new ArrayList<>();
+        bus.subscribe(new Listener<>(TickEvent.class, e -> {
+            if (retained.size() < 2) {
+                retained.add(e);
+            }
+        }));
+
+        EventPool.setDebug(event -> {
+            reported.add(event);
+            throw new IllegalStateException();
+        });
+        try {
+            bus.postPooled(TickEvent.class, INCREMENT);
+            bus.postPooled(TickEvent.class, INCREMENT);
+            // Every report throws, which must neither fail the release nor stop the remaining events being checked
+            for (int i = 0; i < 100 && reported.size() < 2; i++) {
+                System.gc();
+                bus.postPooled(TickEvent.class, INCREMENT);
+            }
+        } finally {
+            EventPool.setDebug(null);
+        }
+        assertEquals(retained, reported);
+    }
+
+    static final class TickEvent implements PooledEvent {
+
+        int tick;
+
+        @Override
+        public void reset() {
+            this.tick = 0;
+        }
+    }
+
+    static final class ValueEvent implements PooledEvent {
+
+        final int value;
+
+        ValueEvent(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public void reset() {}
+    }
+}
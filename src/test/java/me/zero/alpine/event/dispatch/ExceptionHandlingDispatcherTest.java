@@ -87,6 +87,18 @@ public class ExceptionHandlingDispatcherTest {
             ignoreDispatcher.dispatch(new Object(), Util.arrayIterator(listeners));
         }
 
+        @Test
+        void propagatingHandlerCancelsArray() {
+            try {
+                propagateDispatcher.dispatch(new Object(), listeners, listeners.length);
+            } catch (Exception ignored) {}
+        }
+
+        @Test
+        void ignoringHandlerCancelsArray() {
+            ignoreDispatcher.dispatch(new Object(), listeners, listeners.length);
+        }
+
         @AfterEach
         void verifyOrder() {
             inOrder.verify(before).accept(any());
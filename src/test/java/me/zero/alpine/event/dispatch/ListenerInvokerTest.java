@@ -0,0 +1,106 @@
+package me.zero.alpine.event.dispatch;
+
+import me.zero.alpine.event.CancellableEvent;
+import me.zero.alpine.event.EventPriority;
+import me.zero.alpine.listener.Listener;
+import me.zero.alpine.listener.ListenerExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+@SuppressWarnings("unchecked")
+public class ListenerInvokerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 6, 128, 129, 1000})
+    void compiledInvokerCallsListenersInOrder(int numListeners) {
+        final List<Integer> called = new ArrayList<>();
+        final Listener<Object>[] listeners = new Listener[numListeners];
+        for (int i = 0; i < numListeners; i++) {
+            final int index = i;
+            listeners[i] = new Listener<>(Object.class, e -> called.add(index));
+        }
+
+        final ListenerInvoker<Object> invoker = ListenerInvoker.compile(listeners);
+        // Arrays which are too large to chain fall back to an interpreted invoker
+        assertEquals(numListeners <= ListenerInvoker.MAX_UNROLLED_LISTENERS, invoker.isCompiled());
+
+        EventDispatcher.fastEventDispatcher().dispatch(new Object(), invoker);
+        assertEquals(numListeners, called.size());
+        for (int i = 0; i < numListeners; i++) {
+            assertEquals(i, (int) called.get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 6, 128, 129})
+    void cancelledInvokerSkipsListeners(int numListeners) {
+        final CancellableEvent event = new CancellableEvent();
+        final List<Integer> called = new ArrayList<>();
+        final Listener<CancellableEvent>[] listeners = new Listener[numListeners];
+        for (int i = 0; i < numListeners; i++) {
+            final int index = i;
+            // Every third listener receives cancelled events, and the event is cancelled by the listener at index 1
+            listeners[i] = new Listener<>(CancellableEvent.class, e -> {
+                called.add(index);
+                if (index == 1) {
+                    e.cancel();
+                }
+            }, EventPriority.DEFAULT, index % 3 == 0);
+        }
+
+        EventDispatcher.fastEventDispatcher(true).dispatch(event, ListenerInvoker.compile(listeners));
+        for (int i = 0; i < numListeners; i++) {
+            assertEquals(i <= 1 || i % 3 == 0, called.contains(i));
+        }
+    }
+
+    @Test
+    void fastDispatcherRethrowsCause() {
+        final RuntimeException thrownException = new RuntimeException();
+        final Listener<Object>[] listeners = new Listener[]{
+            new Listener<>(Object.class, e -> {throw thrownException;})
+        };
+
+        final RuntimeException thrown = assertThrows(RuntimeException.class, () -> {
+            EventDispatcher.fastEventDispatcher().dispatch(new Object(), ListenerInvoker.compile(listeners));
+        });
+        assertSame(thrownException, thrown);
+    }
+
+    @Test
+    void exceptionHandlerReceivesThrowingListener() {
+        final List<String> called = new ArrayList<>();
+        final Listener<Object>[] listeners = new Listener[]{
+            new Listener<>(Object.class, e -> called.add("before")),
+            new Listener<>(Object.class, e -> {throw new IllegalStateException();}),
+            new Listener<>(Object.class, e -> called.add("after"))
+        };
+
+        final List<Listener<?>> handled = new ArrayList<>();
+        final EventDispatcher dispatcher = EventDispatcher.withExceptionHandler(new ListenerExceptionHandler() {
+            @Override
+            public <T> boolean handleException(T event, Listener<T> listener, Throwable cause) {
+                assertInstanceOf(IllegalStateException.class, cause);
+                handled.add(listener);
+                return false;
+            }
+        });
+
+        dispatcher.dispatch(new Object(), ListenerInvoker.compile(listeners));
+
+        // The throwing listener is passed to the handler, and 'after' is never called
+        assertEquals(1, handled.size());
+        assertSame(listeners[1], handled.get(0));
+        assertEquals(1, called.size());
+        assertEquals("before", called.get(0));
+    }
+}
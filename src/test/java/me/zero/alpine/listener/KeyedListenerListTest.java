@@ -0,0 +1,148 @@
+package me.zero.alpine.listener;
+
+import me.zero.alpine.bus.EventBus;
+import me.zero.alpine.bus.EventManager;
+import me.zero.alpine.event.EventPriority;
+import me.zero.alpine.event.KeyedEvent;
+import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.listener.concurrent.KeyedListenerList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class KeyedListenerListTest {
+
+    private static final EventDispatcher DISPATCHER = EventDispatcher.fastEventDispatcher();
+
+    @Test
+    void onlyListenersOfTheKeyAreCalled() {
+        final KeyedListenerList<EntityEvent> list = new KeyedListenerList<>();
+        final List<String> called = new ArrayList<>();
+        for (int id = 0; id < 100; id++) {
+            final String name = "entity " + id;
+            list.add(Listener.keyed(EntityEvent.class, id, e -> called.add(name)));
+        }
+
+        list.post(new EntityEvent(42), DISPATCHER);
+        assertEquals(Collections.singletonList("entity 42"), called);
+
+        called.clear();
+        list.post(new EntityEvent(100), DISPATCHER);
+        list.post(new EntityEvent(null), DISPATCHER);
+        assertTrue(called.isEmpty());
+    }
+
+    @Test
+    void unkeyedListenersAreMergedInPriorityOrder() {
+        final KeyedListenerList<EntityEvent> list = new KeyedListenerList<>();
+        final List<String> called = new ArrayList<>();
+        list.add(Listener.keyed(EntityEvent.class, 1, e -> called.add("keyed"), EventPriority.DEFAULT));
+        list.add(new Listener<>(EntityEvent.class, e -> called.add("high"), EventPriority.HIGH));
+        list.add(new Listener<>(EntityEvent.class, e -> called.add("low"), EventPriority.LOW));
+
+        list.post(new EntityEvent(1), DISPATCHER);
+        assertEquals(Arrays.asList("high", "keyed", "low"), called);
+
+        called.clear();
+        list.post(new EntityEvent(2), DISPATCHER);
+        assertEquals(Arrays.asList("high", "low"), called);
+    }
+
+    @Test
+    void unkeyedChangesApplyToExistingKeys() {
+        final KeyedListenerList<EntityEvent> list = new KeyedListenerList<>();
+        final List<String> called = new ArrayList<>();
+        for (int id = 0; id < 3; id++) {
+            final String name = "entity " + id;
+            list.add(Listener.keyed(EntityEvent.class, id, e -> called.add(name), EventPriority.DEFAULT));
+        }
+        final Listener<EntityEvent> high = new Listener<>(EntityEvent.class, e -> called.add("high"), EventPriority.HIGH);
+        final Listener<EntityEvent> low = new Listener<>(EntityEvent.class, e -> called.add("low"), EventPriority.LOW);
+
+        list.post(new EntityEvent(0), DISPATCHER);
+        list.add(high);
+        list.post(new EntityEvent(0), DISPATCHER);
+        list.add(low);
+        list.post(new EntityEvent(1), DISPATCHER);
+        list.remove(high);
+        list.post(new EntityEvent(2), DISPATCHER);
+        list.post(new EntityEvent(0), DISPATCHER);
+        assertEquals(Arrays.asList(
+            "entity 0",
+            "high", "entity 0",
+            "high", "entity 1", "low",
+            "entity 2", "low",
+            "entity 0", "low"
+        ), called);
+    }
+
+    @Test
+    void addAndRemove() {
+        final KeyedListenerList<EntityEvent> list = new KeyedListenerList<>();
+        final List<String> called = new ArrayList<>();
+        final Listener<EntityEvent> keyed = Listener.keyed(EntityEvent.class, 1, e -> called.add("keyed"));
+        final Listener<EntityEvent> unkeyed = new Listener<>(EntityEvent.class, e -> called.add("unkeyed"));
+        assertTrue(list.isEmpty());
+
+        assertTrue(list.add(keyed));
+        assertFalse(list.add(keyed));
+        assertTrue(list.add(unkeyed));
+        assertFalse(list.add(unkeyed));
+        assertFalse(list.isEmpty());
+
+        assertTrue(list.remove(unkeyed));
+        assertFalse(list.remove(unkeyed));
+        list.post(new EntityEvent(1), DISPATCHER);
+        assertEquals(Collections.singletonList("keyed"), called);
+
+        assertTrue(list.remove(keyed));
+        assertFalse(list.remove(keyed));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void keyedListenersFilterWithoutIndex() {
+        final ListenerArrayList<EntityEvent> list = new ListenerArrayList<>();
+        final List<Integer> received = new ArrayList<>();
+        list.add(Listener.keyed(EntityEvent.class, 1, e -> received.add((Integer) e.getKey())));
+
+        list.post(new EntityEvent(1), DISPATCHER);
+        list.post(new EntityEvent(2), DISPATCHER);
+        assertEquals(Collections.singletonList(1), received);
+    }
+
+    @Test
+    void busUsesIndexForKeyedEvents() {
+        final EventBus bus = EventManager.builder().setName("test").build();
+        final List<Integer> received = new ArrayList<>();
+        bus.subscribe(Listener.keyed(EntityEvent.class, 1, e -> received.add(1), EventPriority.DEFAULT,
+            e -> e.getKey() != null));
+        bus.subscribe(Listener.keyed(EntityEvent.class, 2, e -> received.add(2)));
+
+        bus.post(new EntityEvent(2));
+        bus.post(new EntityEvent(1));
+        assertEquals(Arrays.asList(2, 1), received);
+    }
+
+    static final class EntityEvent implements KeyedEvent {
+
+        private final Integer id;
+
+        EntityEvent(Integer id) {
+            this.id = id;
+        }
+
+        @Override
+        public Object getKey() {
+            return this.id;
+        }
+    }
+}
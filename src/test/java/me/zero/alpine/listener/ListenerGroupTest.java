@@ -1,38 +1,144 @@
 package me.zero.alpine.listener;
 
+import me.zero.alpine.event.EventPriority;
 import me.zero.alpine.event.dispatch.EventDispatcher;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Brady
  */
 public class ListenerGroupTest {
 
-    @SuppressWarnings("unchecked")
     @ParameterizedTest
     @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
-    void distributorCallsChildren(int numChildren) {
-        final ListenerGroup<Object> root = new ListenerGroup<>((ListenerList<Object>) mock(ListenerList.class));
-
-        final ListenerList<Object>[] backingLists = new ListenerList[numChildren];
-        for (int i = 0; i < backingLists.length; i++) {
-            final ListenerList<Object> list = (ListenerList<Object>) mock(ListenerList.class);
-            final ListenerGroup<Object> group = new ListenerGroup<>(list);
-            backingLists[i] = list;
+    void postCallsChildren(int numChildren) {
+        final ListenerGroup<Object> root = new ListenerGroup<>(new ListenerArrayList<>());
+        final int[] called = new int[numChildren];
+
+        for (int i = 0; i < numChildren; i++) {
+            final int index = i;
+            final ListenerGroup<Object> group = new ListenerGroup<>(new ListenerArrayList<>());
+            group.add(new Listener<>(Object.class, e -> called[index]++));
             root.addChild(group);
         }
 
-        final Object event = new Object();
-        root.post(event, mock(EventDispatcher.class));
+        root.post(new Object(), EventDispatcher.fastEventDispatcher());
+
+        for (int count : called) {
+            assertEquals(1, count);
+        }
+    }
+
+    @Test
+    void prioritiesAreMergedAcrossChildren() {
+        final List<String> called = new ArrayList<>();
+        final ListenerGroup<Object> root = new ListenerGroup<>(new ListenerArrayList<>());
+        final ListenerGroup<Object> child = new ListenerGroup<>(new ListenerArrayList<>());
+        root.addChild(child);
+
+        child.add(new Listener<>(Object.class, e -> called.add("child high"), EventPriority.HIGH));
+        child.add(new Listener<>(Object.class, e -> called.add("child low"), EventPriority.LOW));
+        root.add(new Listener<>(Object.class, e -> called.add("root highest"), EventPriority.HIGHEST));
+        root.add(new Listener<>(Object.class, e -> called.add("root medium"), EventPriority.MEDIUM));
+
+        root.post(new Object(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Arrays.asList("root highest", "child high", "root medium", "child low"), called);
+    }
+
+    @Test
+    void childChangesAreReflected() {
+        final List<String> called = new ArrayList<>();
+        final ListenerGroup<Object> root = new ListenerGroup<>(new ListenerArrayList<>());
+        final ListenerGroup<Object> child = new ListenerGroup<>(new ListenerArrayList<>());
+
+        // Listeners added before linking are copied, and listeners added after linking are propagated
+        final Listener<Object> before = new Listener<>(Object.class, e -> called.add("before"), EventPriority.HIGH);
+        final Listener<Object> after = new Listener<>(Object.class, e -> called.add("after"), EventPriority.LOW);
+        child.add(before);
+        root.addChild(child);
+        child.add(after);
+        assertFalse(root.isEmpty());
+
+        root.post(new Object(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Arrays.asList("before", "after"), called);
+
+        called.clear();
+        child.remove(before);
+        root.post(new Object(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Collections.singletonList("after"), called);
+
+        child.remove(after);
+        assertTrue(root.isEmpty());
+    }
+
+    @Test
+    void addReturnsUpdated() {
+        final ListenerGroup<Object> group = new ListenerGroup<>(new ListenerArrayList<>());
+        final Listener<Object> listener = new Listener<>(Object.class, e -> {});
+
+        assertTrue(group.add(listener));
+        assertFalse(group.add(listener));
+        assertTrue(group.remove(listener));
+        assertFalse(group.remove(listener));
+    }
+
+    @Test
+    void linkingMergesHierarchies() {
+        final List<String> called = new ArrayList<>();
+        final ListenerGroup<Object> first = new ListenerGroup<>(new ListenerArrayList<>());
+        final ListenerGroup<Object> second = new ListenerGroup<>(new ListenerArrayList<>());
+        final ListenerGroup<Object> child = new ListenerGroup<>(new ListenerArrayList<>());
+
+        // Link the child to parents from two separate hierarchies, from both directions
+        first.addChild(child);
+        second.addChild(first);
+        second.addChild(child);
+        child.add(new Listener<>(Object.class, e -> called.add("child")));
+
+        first.post(new Object(), EventDispatcher.fastEventDispatcher());
+        second.post(new Object(), EventDispatcher.fastEventDispatcher());
+        assertEquals(Arrays.asList("child", "child"), called);
+    }
+
+    @Test
+    void concurrentLinkingAndAdding() throws InterruptedException {
+        final int numGroups = 100;
+        final int numListeners = 1000;
+        final ListenerGroup<Object> child = new ListenerGroup<>(new ListenerArrayList<>());
+        final List<ListenerGroup<Object>> parents = new ArrayList<>();
+        final AtomicInteger called = new AtomicInteger();
+
+        final Thread adder = new Thread(() -> {
+            for (int i = 0; i < numListeners; i++) {
+                child.add(new Listener<>(Object.class, e -> called.incrementAndGet()));
+            }
+        });
+        adder.start();
+        for (int i = 0; i < numGroups; i++) {
+            final ListenerGroup<Object> parent = new ListenerGroup<>(new ListenerArrayList<>());
+            if (!parents.isEmpty()) {
+                // Chain the parents together as well, so that each link merges a new hierarchy
+                parent.addChild(parents.get(parents.size() - 1));
+            }
+            parent.addChild(child);
+            parents.add(parent);
+        }
+        adder.join();
 
-        for (ListenerList<Object> list : backingLists) {
-            verify(list).post(eq(event), any());
+        for (ListenerGroup<Object> parent : parents) {
+            called.set(0);
+            parent.post(new Object(), EventDispatcher.fastEventDispatcher());
+            assertEquals(numListeners, called.get());
         }
     }
 }
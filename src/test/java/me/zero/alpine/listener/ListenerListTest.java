@@ -1,23 +1,34 @@
 package me.zero.alpine.listener;
 
+import com.sun.management.ThreadMXBean;
 import me.zero.alpine.event.EventPriority;
 import me.zero.alpine.event.dispatch.EventDispatcher;
+import me.zero.alpine.event.dispatch.ListenerInvoker;
+import me.zero.alpine.listener.concurrent.BucketedListenerList;
+import me.zero.alpine.listener.concurrent.CompiledListenerList;
 import me.zero.alpine.listener.concurrent.CopyOnWriteListenerList;
+import me.zero.alpine.listener.concurrent.KeyedListenerList;
+import me.zero.alpine.listener.concurrent.LockFreeListenerList;
 import me.zero.alpine.listener.concurrent.ReadWriteLockListenerList;
+import me.zero.alpine.listener.concurrent.StampedLockListenerList;
 import me.zero.alpine.listener.concurrent.SynchronizedListenerList;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -60,6 +71,40 @@ public interface ListenerListTest<T extends ListenerList<Object>> {
         assertFalse(list.remove(listener));
     }
 
+    @Test
+    default void isEmptyReflectsListeners() {
+        final T list = create();
+        final Listener<Object> listener = new Listener<>(Object.class, e -> {});
+
+        assertTrue(list.isEmpty());
+        list.add(listener);
+        assertFalse(list.isEmpty());
+        list.remove(listener);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    default void removeAllRemovesListeners() {
+        final EventDispatcher dispatcher = EventDispatcher.fastEventDispatcher();
+        final List<String> called = new ArrayList<>();
+        final Listener<Object> first = new Listener<>(Object.class, e -> called.add("first"));
+        final Listener<Object> second = new Listener<>(Object.class, e -> called.add("second"));
+        final Listener<Object> third = new Listener<>(Object.class, e -> called.add("third"));
+
+        final T list = create();
+        list.add(first);
+        list.add(second);
+        list.add(third);
+
+        assertTrue(list.removeAll(Arrays.asList(first, third)));
+        assertFalse(list.removeAll(Arrays.asList(first, third)));
+        list.post(new Object(), dispatcher);
+        assertEquals(Collections.singletonList("second"), called);
+
+        assertTrue(list.removeAll(Collections.singletonList(second)));
+        assertTrue(list.isEmpty());
+    }
+
     @Test
     default void listenersAreSorted() {
         final EventDispatcher dispatcher = createMockDispatcher();
@@ -89,6 +134,33 @@ public interface ListenerListTest<T extends ListenerList<Object>> {
         }
     }
 
+    @Test
+    default void postDoesNotAllocate() {
+        final EventDispatcher dispatcher = EventDispatcher.fastEventDispatcher();
+
+        final T list = create();
+        for (int i = 0; i < 8; i++) {
+            list.add(new Listener<>(Object.class, e -> {}, i));
+        }
+        final Object event = new Object();
+
+        // Warm up, so that one-time allocations, such as compiling an invoker, aren't counted
+        for (int i = 0; i < 10_000; i++) {
+            list.post(event, dispatcher);
+        }
+
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            list.post(event, dispatcher);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Allow for some noise from the measurement itself, a single allocation per post would be several megabytes
+        assertTrue(allocated < 1024, "Posting allocated " + allocated + " bytes");
+    }
+
     static EventDispatcher createMockDispatcher() {
         final EventDispatcher dispatcher = mock(EventDispatcher.class);
         doAnswer(ctx -> {
@@ -97,7 +169,22 @@ public interface ListenerListTest<T extends ListenerList<Object>> {
                 it.next().accept(ctx.getArgument(0));
             }
             return null;
-        }).when(dispatcher).dispatch(any(), any());
+        }).when(dispatcher).dispatch(any(), any(Iterator.class));
+        doAnswer(ctx -> {
+            ListenerInvoker<Object> invoker = ctx.getArgument(1);
+            for (Listener<Object> listener : invoker.getListeners()) {
+                listener.accept(ctx.getArgument(0));
+            }
+            return null;
+        }).when(dispatcher).dispatch(any(), any(ListenerInvoker.class));
+        doAnswer(ctx -> {
+            Listener<Object>[] listeners = ctx.getArgument(1);
+            int length = ctx.getArgument(2);
+            for (int i = 0; i < length; i++) {
+                listeners[i].accept(ctx.getArgument(0));
+            }
+            return null;
+        }).when(dispatcher).dispatch(any(), any(Listener[].class), anyInt());
         return dispatcher;
     }
 
@@ -132,4 +219,129 @@ public interface ListenerListTest<T extends ListenerList<Object>> {
             return new SynchronizedListenerList<>(new ListenerArrayList<>());
         }
     }
+
+    class StampedLockTest implements ListenerListTest<StampedLockListenerList<Object>> {
+
+        @Override
+        public StampedLockListenerList<Object> create() {
+            return new StampedLockListenerList<>(new ListenerArrayList<>());
+        }
+    }
+
+    class CompiledTest implements ListenerListTest<CompiledListenerList<Object>> {
+
+        @Override
+        public CompiledListenerList<Object> create() {
+            return new CompiledListenerList<>();
+        }
+
+        @Test
+        void invokerIsCompiledInTheBackground() throws InterruptedException {
+            final CompiledListenerList<Object> list = create();
+            final List<Boolean> compiled = new ArrayList<>();
+            final EventDispatcher dispatcher = new EventDispatcher() {
+
+                @Override
+                public <E> void dispatch(E event, Iterator<Listener<E>> listeners) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public <E> void dispatch(E event, ListenerInvoker<E> invoker) {
+                    compiled.add(invoker.isCompiled());
+                    invoker.invoke(event);
+                }
+            };
+            final List<Object> received = new ArrayList<>();
+            list.add(new Listener<>(Object.class, received::add));
+
+            // The posting thread never waits for the invoker to be compiled
+            list.post("a", dispatcher);
+            assertEquals(Collections.singletonList(false), compiled);
+
+            for (int i = 0; i < 100 && !compiled.get(compiled.size() - 1); i++) {
+                Thread.sleep(CompiledListenerList.COMPILE_DELAY_MILLIS);
+                list.post("b", dispatcher);
+            }
+            assertTrue(compiled.get(compiled.size() - 1));
+            assertEquals(compiled.size(), received.size());
+
+            // Modifying the list discards the compiled invoker
+            list.add(new Listener<>(Object.class, received::add));
+            list.post("c", dispatcher);
+            assertFalse(compiled.get(compiled.size() - 1));
+        }
+    }
+
+    class KeyedTest implements ListenerListTest<KeyedListenerList<Object>> {
+
+        @Override
+        public KeyedListenerList<Object> create() {
+            return new KeyedListenerList<>();
+        }
+    }
+
+    class BucketedTest implements ListenerListTest<BucketedListenerList<Object>> {
+
+        @Override
+        public BucketedListenerList<Object> create() {
+            return new BucketedListenerList<>();
+        }
+
+        @Test
+        void listenersOfEqualPriorityAreCalledInInsertionOrder() {
+            final BucketedListenerList<Object> list = create();
+            final List<Integer> called = new ArrayList<>();
+            final List<Listener<Object>> listeners = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                final int id = i;
+                listeners.add(new Listener<>(Object.class, e -> called.add(id), i % 2 == 0 ? 0 : 1));
+            }
+            listeners.forEach(list::add);
+            list.remove(listeners.get(4));
+            list.add(listeners.get(4));
+
+            list.post(new Object(), EventDispatcher.fastEventDispatcher());
+            assertEquals(Arrays.asList(1, 3, 5, 7, 9, 0, 2, 6, 8, 4), called);
+        }
+    }
+
+    class LockFreeTest implements ListenerListTest<LockFreeListenerList<Object>> {
+
+        @Override
+        public LockFreeListenerList<Object> create() {
+            return new LockFreeListenerList<>();
+        }
+
+        @Test
+        void concurrentModificationsAreNotLost() throws InterruptedException {
+            final LockFreeListenerList<Object> list = create();
+            final int[] called = new int[1];
+            final Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                final int priority = t;
+                threads[t] = new Thread(() -> {
+                    final List<Listener<Object>> added = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        final Listener<Object> listener = new Listener<>(Object.class, e -> called[0]++, priority);
+                        assertTrue(list.add(listener));
+                        added.add(listener);
+                    }
+                    // Remove every other listener, while the other threads are still adding theirs
+                    for (int i = 0; i < added.size(); i += 2) {
+                        assertTrue(list.remove(added.get(i)));
+                    }
+                });
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            list.post(new Object(), EventDispatcher.fastEventDispatcher());
+            assertEquals(threads.length * 500, called[0]);
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package me.zero.alpine.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Brady
+ */
+public class FlattenHierarchyTest {
+
+    @Test
+    void superclassesComeBeforeInterfaces() {
+        assertEquals(
+            Arrays.asList(Child.class, Parent.class, Object.class, ChildInterface.class, ParentInterface.class),
+            Util.flattenHierarchyOrdered(Child.class)
+        );
+    }
+
+    @Test
+    void interfacesAreNotDuplicated() {
+        final List<Class<?>> hierarchy = Util.flattenHierarchyOrdered(Diamond.class);
+        assertEquals(hierarchy.size(), hierarchy.stream().distinct().count());
+        assertEquals(
+            Arrays.asList(Diamond.class, Child.class, Parent.class, Object.class, ParentInterface.class,
+                ChildInterface.class),
+            hierarchy
+        );
+    }
+
+    @Test
+    void interfaceHierarchyDoesNotIncludeObject() {
+        assertEquals(Arrays.asList(ChildInterface.class, ParentInterface.class),
+            Util.flattenHierarchyOrdered(ChildInterface.class));
+    }
+
+    @Test
+    void hierarchyIsCachedAndUnmodifiable() {
+        final List<Class<?>> hierarchy = Util.flattenHierarchyOrdered(Child.class);
+        assertSame(hierarchy, Util.flattenHierarchyOrdered(Child.class));
+        assertThrows(UnsupportedOperationException.class, () -> hierarchy.add(String.class));
+    }
+
+    @Test
+    void setHasTheSameOrder() {
+        final Set<Class<?>> hierarchy = Util.flattenHierarchy(Diamond.class);
+        assertEquals(Util.flattenHierarchyOrdered(Diamond.class), new ArrayList<>(hierarchy));
+        assertTrue(hierarchy.contains(ParentInterface.class));
+        assertSame(hierarchy, Util.flattenHierarchy(Diamond.class));
+        assertThrows(UnsupportedOperationException.class, () -> hierarchy.add(String.class));
+    }
+
+    interface ParentInterface {}
+
+    interface ChildInterface extends ParentInterface {}
+
+    static class Parent implements ParentInterface {}
+
+    static class Child extends Parent implements ChildInterface {}
+
+    static class Diamond extends Child implements ParentInterface {}
+}